@@ -6,10 +6,16 @@ import com.badlogic.gdx.backends.android.AndroidApplication;
 import com.badlogic.gdx.backends.android.AndroidApplicationConfiguration;
 
 public class AndroidLauncher extends AndroidApplication {
+    // A long extra that makes every run use the given seed, for example
+    // adb shell am start -n fi.tuni.mental_run/.AndroidLauncher --el seed 12345
+    static final String EXTRA_SEED = "seed";
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         AndroidApplicationConfiguration config = new AndroidApplicationConfiguration();
-        initialize(new GameProject(), config);
+        GameProject game = new GameProject();
+        game.setLaunchSeed(getIntent().getLongExtra(EXTRA_SEED, 0));
+        initialize(game, config);
     }
 }
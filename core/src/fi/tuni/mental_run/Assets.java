@@ -0,0 +1,254 @@
+package fi.tuni.mental_run;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGeneratorLoader;
+import com.badlogic.gdx.graphics.g2d.freetype.FreetypeFontLoader;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Assets is the process-wide registry for the textures, sounds and fonts used in the project.
+ * <p>
+ * Every texture is loaded through a single libGDX AssetManager, which means that each image is decoded
+ * and uploaded to the GPU only once, no matter how many times Button, Player, Lives, Countdown,
+ * MenuBackground or the collectibles are constructed.
+ * The AssetManager keeps a reference count for every asset. The registry itself holds one reference
+ * to each texture for as long as the game is running, so the textures survive screen changes.
+ * <p>
+ * The small images drawn during the run and on the menus (collectibles, buttons, hearts, countdown, headers,
+ * the crown and the turquoise board) are packed into a texture atlas at build time
+ * by the packTextures Gradle task. getRegion returns their atlas regions so that consecutive draws
+ * do not force a SpriteBatch flush on every texture switch.
+ * If the atlas has not been packed, getRegion falls back to the separate images.
+ * <p>
+ * The same AssetManager also loads the tiled maps, the fonts and, for SoundManager, the sound effects.
+ * LevelAssets uses it to load the next run in the background while a tutorial is showing.
+ * <p>
+ * Every font variant is created only once per process. If the bakeFonts task of the desktop module has
+ * baked the variants into fonts/, they are loaded as ready bitmap fonts. Otherwise they are
+ * rasterized from font/Roboto.ttf with FreeType, sharing one FreeTypeFontGenerator.
+ * Assets is disposed in GameProject's dispose.
+ */
+public class Assets {
+    // Written by the packTextures task in build.gradle.
+    static final String ATLAS = "atlas/game.atlas";
+
+    // The font variants used in the project.
+    public static final String FONT = "roboto_18";
+    public static final String SMALLER_FONT = "roboto_12";
+    public static final String LARGER_FONT = "roboto_36";
+    public static final String YELLOW_FONT = "roboto_yellow_18";
+    public static final String[] FONTS = {FONT, SMALLER_FONT, LARGER_FONT, YELLOW_FONT};
+
+    // Written by the bakeFonts task in desktop/build.gradle.
+    public static final String BAKED_FONTS = "fonts/";
+
+    // Asset names of the fonts, either the baked .fnt file or a .ttf name for the FreeType loader.
+    private static final ObjectMap<String, String> fontFiles = new ObjectMap<>();
+
+    private static AssetManager manager;
+
+    private static TextureAtlas atlas;
+    private static boolean atlasChecked;
+
+    // Regions that are not found from the atlas are wrapped once and reused.
+    private static final ObjectMap<String, TextureRegion> regions = new ObjectMap<>();
+
+    /**
+     * Returns the AssetManager shared by the whole game, creating it on first use.
+     *
+     * @return the shared AssetManager
+     */
+    public static AssetManager getManager() {
+        if (manager == null) {
+            FileHandleResolver resolver = new InternalFileHandleResolver();
+            manager = new AssetManager(resolver);
+            manager.setLoader(TiledMap.class, new TmxMapLoader(resolver));
+            manager.setLoader(TiledMap.class, BinaryMapLoader.EXTENSION, new BinaryMapLoader(resolver));
+            manager.setLoader(FreeTypeFontGenerator.class, new FreeTypeFontGeneratorLoader(resolver));
+            manager.setLoader(BitmapFont.class, ".ttf", new FreetypeFontLoader(resolver));
+        }
+        return manager;
+    }
+
+    /**
+     * Returns the shared texture for the given file.
+     * <p>
+     * The texture is loaded synchronously the first time it is requested.
+     * After that the already uploaded texture is returned.
+     *
+     * @param fileName the internal path of the image, for example "buttons/ok_button.png"
+     * @return the shared texture
+     */
+    public static Texture getTexture(String fileName) {
+        AssetManager manager = getManager();
+        if (!manager.isLoaded(fileName, Texture.class)) {
+            manager.load(fileName, Texture.class);
+            manager.finishLoadingAsset(fileName);
+        }
+        return manager.get(fileName, Texture.class);
+    }
+
+    /**
+     * Returns the shared font with the given name.
+     * <p>
+     * The font is loaded synchronously if it has not been loaded already.
+     *
+     * @param fontName FONT, SMALLER_FONT, LARGER_FONT or YELLOW_FONT
+     * @return the shared font
+     */
+    public static BitmapFont getFont(String fontName) {
+        AssetManager manager = getManager();
+        String fileName = getFontFile(fontName);
+        if (!manager.isLoaded(fileName, BitmapFont.class)) {
+            loadFont(fontName);
+            manager.finishLoadingAsset(fileName);
+        }
+        return manager.get(fileName, BitmapFont.class);
+    }
+
+    /**
+     * Queues the font with the given name to the AssetManager if it is not loaded or queued already.
+     * <p>
+     * The fonts are shared by every screen and stay loaded until dispose, so they are queued only once.
+     *
+     * @param fontName FONT, SMALLER_FONT, LARGER_FONT or YELLOW_FONT
+     */
+    static void loadFont(String fontName) {
+        String fileName = getFontFile(fontName);
+        if (getManager().contains(fileName)) {
+            return;
+        }
+        if (fileName.endsWith(".fnt")) {
+            getManager().load(fileName, BitmapFont.class);
+        } else {
+            FreetypeFontLoader.FreeTypeFontLoaderParameter parameter = new FreetypeFontLoader.FreeTypeFontLoaderParameter();
+            parameter.fontFileName = "font/Roboto.ttf";
+            parameter.fontParameters = getFontParameters(fontName);
+            getManager().load(fileName, BitmapFont.class, parameter);
+        }
+    }
+
+    /**
+     * Returns the asset name of the font, preferring the baked bitmap font if there is one.
+     *
+     * @param fontName FONT, SMALLER_FONT, LARGER_FONT or YELLOW_FONT
+     * @return the asset name used with the AssetManager
+     */
+    private static String getFontFile(String fontName) {
+        String fileName = fontFiles.get(fontName);
+        if (fileName == null) {
+            fileName = BAKED_FONTS + fontName + ".fnt";
+            if (!Gdx.files.internal(fileName).exists()) {
+                fileName = fontName + ".ttf";
+            }
+            fontFiles.put(fontName, fileName);
+        }
+        return fileName;
+    }
+
+    /**
+     * Returns the FreeType parameters of the font with the given name.
+     * <p>
+     * The same parameters are used when the fonts are baked at build time.
+     * The default characters cover both the English and the Finnish texts.
+     *
+     * @param fontName FONT, SMALLER_FONT, LARGER_FONT or YELLOW_FONT
+     * @return a new parameter object
+     */
+    public static FreeTypeFontGenerator.FreeTypeFontParameter getFontParameters(String fontName) {
+        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+        parameter.size = 18;
+        parameter.color = Color.BLACK;
+        parameter.borderColor = Color.WHITE;
+        parameter.borderWidth = 1;
+        if (fontName.equals(SMALLER_FONT)) {
+            parameter.size = 12;
+        } else if (fontName.equals(LARGER_FONT)) {
+            parameter.size = 36;
+        } else if (fontName.equals(YELLOW_FONT)) {
+            parameter.color = Color.YELLOW;
+            parameter.borderColor = Color.BLACK;
+        }
+        return parameter;
+    }
+
+    /**
+     * Returns the shared region for the given image.
+     * <p>
+     * The region is looked up from the packed atlas, where its name is the image's path without
+     * the .png extension. If the image is not packed, the separate texture is used as a whole.
+     *
+     * @param fileName the internal path of the image, for example "collectibles/porridge.png"
+     * @return the shared texture region
+     */
+    public static TextureRegion getRegion(String fileName) {
+        TextureRegion region = regions.get(fileName);
+        if (region == null) {
+            TextureAtlas atlas = getAtlas();
+            if (atlas != null) {
+                region = atlas.findRegion(fileName.substring(0, fileName.lastIndexOf('.')));
+            }
+            if (region == null) {
+                region = new TextureRegion(getTexture(fileName));
+            }
+            regions.put(fileName, region);
+        }
+        return region;
+    }
+
+    /**
+     * Returns the packed texture atlas or null if the atlas has not been packed.
+     *
+     * @return the shared texture atlas or null
+     */
+    private static TextureAtlas getAtlas() {
+        if (!atlasChecked) {
+            atlasChecked = true;
+            if (Gdx.files.internal(ATLAS).exists()) {
+                AssetManager manager = getManager();
+                manager.load(ATLAS, TextureAtlas.class);
+                manager.finishLoadingAsset(ATLAS);
+                atlas = manager.get(ATLAS, TextureAtlas.class);
+            }
+        }
+        return atlas;
+    }
+
+    /**
+     * Drops one reference to the given asset.
+     * <p>
+     * The asset is disposed when no other reference or asset depends on it anymore.
+     *
+     * @param fileName the internal path or the name of the asset
+     */
+    public static void unload(String fileName) {
+        if (manager != null && manager.isLoaded(fileName)) {
+            manager.unload(fileName);
+        }
+    }
+
+    /**
+     * Disposes all assets loaded through the registry.
+     */
+    public static void dispose() {
+        if (manager != null) {
+            manager.dispose();
+            manager = null;
+        }
+        atlas = null;
+        atlasChecked = false;
+        regions.clear();
+        fontFiles.clear();
+    }
+}
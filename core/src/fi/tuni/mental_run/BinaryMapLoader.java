@@ -0,0 +1,233 @@
+package fi.tuni.mental_run;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+
+/**
+ * BinaryMapLoader loads the compiled .tmb tile maps into a TiledMap.
+ * <p>
+ * The .tmb files are compiled from the Tiled .tmx maps at build time by the compileMaps task of
+ * the desktop module. Instead of XML and base64/zlib or CSV decoding, the loader reads the tile indices
+ * of each layer straight from a memory-mapped ByteBuffer into a short array.
+ * If the file cannot be memory-mapped, for example when it is compressed inside the APK,
+ * it is read into a heap buffer instead.
+ * <p>
+ * The layout is big-endian:
+ * the magic number, the map's width, height, tile width and tile height as shorts,
+ * the tileset count as a byte and for every tileset its name, image path relative to the map,
+ * first gid, tile width, tile height, spacing, margin, offset x and offset y,
+ * then the layer count as a byte and for every layer its name, visibility, opacity and
+ * width * height tile indices as shorts, from the top row to the bottom row like in Tiled.
+ * A tile index holds the gid in its low 13 bits and Tiled's flip flags in its top 3 bits.
+ * Strings are written as a short length followed by UTF-8 bytes.
+ * <p>
+ * The tiles, flips and row order are the same as TmxMapLoader produces, so the map renders identically.
+ */
+public class BinaryMapLoader extends AsynchronousAssetLoader<TiledMap, BinaryMapLoader.Parameters> {
+    public static final String EXTENSION = ".tmb";
+
+    // "TMB1"
+    public static final int MAGIC = 0x544D4231;
+
+    public static final int FLIP_HORIZONTALLY = 0x8000;
+    public static final int FLIP_VERTICALLY = 0x4000;
+    public static final int FLIP_DIAGONALLY = 0x2000;
+    public static final int GID_MASK = 0x1FFF;
+
+    static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /**
+     * BinaryMapLoader has no parameters of its own.
+     */
+    public static class Parameters extends AssetLoaderParameters<TiledMap> {
+    }
+
+    // The state of the map being loaded, kept between the loading steps like TmxMapLoader does.
+    private ByteBuffer buffer;
+    private TiledMap map;
+
+    public BinaryMapLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    @Override
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, Parameters parameter) {
+        buffer = read(file);
+        if (buffer.getInt() != MAGIC) {
+            throw new GdxRuntimeException("Not a compiled tile map: " + fileName);
+        }
+        // Skips the map's size and tile size to peek the tileset images.
+        buffer.position(buffer.position() + 8);
+
+        TextureLoader.TextureParameter textureParameter = new TextureLoader.TextureParameter();
+        textureParameter.minFilter = Texture.TextureFilter.Nearest;
+        textureParameter.magFilter = Texture.TextureFilter.Nearest;
+
+        Array<AssetDescriptor> dependencies = new Array<>();
+        int tilesetCount = buffer.get();
+        for (int i = 0; i < tilesetCount; i++) {
+            readString(buffer);
+            String image = file.parent().child(readString(buffer)).path();
+            dependencies.add(new AssetDescriptor<>(image, Texture.class, textureParameter));
+            buffer.position(buffer.position() + 14);
+        }
+        buffer.rewind();
+        return dependencies;
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        ByteBuffer buffer = this.buffer;
+        buffer.getInt();
+
+        map = new TiledMap();
+        int width = buffer.getShort();
+        int height = buffer.getShort();
+        int tileWidth = buffer.getShort();
+        int tileHeight = buffer.getShort();
+        map.getProperties().put("width", width);
+        map.getProperties().put("height", height);
+        map.getProperties().put("tilewidth", tileWidth);
+        map.getProperties().put("tileheight", tileHeight);
+
+        int tilesetCount = buffer.get();
+        for (int i = 0; i < tilesetCount; i++) {
+            TiledMapTileSet tileSet = new TiledMapTileSet();
+            tileSet.setName(readString(buffer));
+            Texture texture = manager.get(file.parent().child(readString(buffer)).path(), Texture.class);
+            int id = buffer.getShort();
+            int tilesetTileWidth = buffer.getShort();
+            int tilesetTileHeight = buffer.getShort();
+            int spacing = buffer.getShort();
+            int margin = buffer.getShort();
+            int offsetX = buffer.getShort();
+            int offsetY = buffer.getShort();
+            tileSet.getProperties().put("firstgid", id);
+
+            int stopWidth = texture.getWidth() - tilesetTileWidth;
+            int stopHeight = texture.getHeight() - tilesetTileHeight;
+            for (int y = margin; y <= stopHeight; y += tilesetTileHeight + spacing) {
+                for (int x = margin; x <= stopWidth; x += tilesetTileWidth + spacing) {
+                    StaticTiledMapTile tile = new StaticTiledMapTile(new TextureRegion(texture, x, y, tilesetTileWidth, tilesetTileHeight));
+                    tile.setId(id);
+                    tile.setOffsetX(offsetX);
+                    // TmxMapLoader flips the y offset together with the rows.
+                    tile.setOffsetY(-offsetY);
+                    tileSet.putTile(id++, tile);
+                }
+            }
+            map.getTileSets().addTileSet(tileSet);
+        }
+
+        short[] cells = new short[width * height];
+        int layerCount = buffer.get();
+        for (int i = 0; i < layerCount; i++) {
+            TiledMapTileLayer layer = new TiledMapTileLayer(width, height, tileWidth, tileHeight);
+            layer.setName(readString(buffer));
+            layer.setVisible(buffer.get() != 0);
+            layer.setOpacity(buffer.getFloat());
+
+            buffer.asShortBuffer().get(cells);
+            buffer.position(buffer.position() + cells.length * 2);
+
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    int cell = cells[y * width + x] & 0xFFFF;
+                    TiledMapTile tile = map.getTileSets().getTile(cell & GID_MASK);
+                    if (tile != null) {
+                        // The rows are stored from the top, the layer counts them from the bottom.
+                        layer.setCell(x, height - 1 - y, createCell(tile,
+                                (cell & FLIP_HORIZONTALLY) != 0, (cell & FLIP_VERTICALLY) != 0, (cell & FLIP_DIAGONALLY) != 0));
+                    }
+                }
+            }
+            map.getLayers().add(layer);
+        }
+        this.buffer = null;
+    }
+
+    @Override
+    public TiledMap loadSync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        TiledMap map = this.map;
+        this.map = null;
+        return map;
+    }
+
+    /**
+     * Creates a cell the same way TmxMapLoader does, turning Tiled's diagonal flip into a rotation.
+     *
+     * @param tile             the tile of the cell
+     * @param flipHorizontally Tiled's horizontal flip flag
+     * @param flipVertically   Tiled's vertical flip flag
+     * @param flipDiagonally   Tiled's diagonal flip flag
+     * @return the new cell
+     */
+    static TiledMapTileLayer.Cell createCell(TiledMapTile tile, boolean flipHorizontally, boolean flipVertically, boolean flipDiagonally) {
+        TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+        cell.setTile(tile);
+        if (flipDiagonally) {
+            if (flipHorizontally && flipVertically) {
+                cell.setFlipHorizontally(true);
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            } else if (flipHorizontally) {
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            } else if (flipVertically) {
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_90);
+            } else {
+                cell.setFlipVertically(true);
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            }
+        } else {
+            cell.setFlipHorizontally(flipHorizontally);
+            cell.setFlipVertically(flipVertically);
+        }
+        return cell;
+    }
+
+    /**
+     * Memory-maps the file, or reads it into a heap buffer if it cannot be mapped.
+     *
+     * @param file the compiled map
+     * @return a big-endian buffer positioned at the start of the file
+     */
+    static ByteBuffer read(FileHandle file) {
+        ByteBuffer buffer;
+        try {
+            buffer = file.map();
+        } catch (GdxRuntimeException e) {
+            buffer = ByteBuffer.wrap(file.readBytes());
+        }
+        // FileHandle.map returns the buffer in the native byte order.
+        return buffer.order(ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Reads a string written as a short length followed by UTF-8 bytes.
+     *
+     * @param buffer the buffer to read from
+     * @return the string
+     */
+    static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort()];
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+}
@@ -1,6 +1,6 @@
 package fi.tuni.mental_run;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 
 /**
@@ -13,61 +13,62 @@ import com.badlogic.gdx.math.Rectangle;
  */
 public class Button extends GameProject {
     // Initializes the main menu buttons.
-    Texture settingsButtonTexture;
+    TextureRegion settingsButtonTexture;
     Rectangle settingsButtonRectangle;
-    Texture startButtonTexture;
+    TextureRegion startButtonTexture;
     Rectangle startButtonRectangle;
-    Texture highScoresButtonTexture;
+    TextureRegion highScoresButtonTexture;
     Rectangle highScoresButtonRectangle;
-    Texture exitButtonTexture;
+    TextureRegion exitButtonTexture;
     Rectangle exitButtonRectangle;
 
     // Initializes the level selection menu buttons.
-    Texture level1ButtonTexture;
+    TextureRegion level1ButtonTexture;
     Rectangle level1ButtonRectangle;
-    Texture level2ButtonTexture;
+    TextureRegion level2ButtonTexture;
     Rectangle level2ButtonRectangle;
-    Texture level3ButtonTexture;
+    TextureRegion level3ButtonTexture;
     Rectangle level3ButtonRectangle;
 
     // Initializes the settings menu buttons.
-    Texture soundOnButtonTexture;
-    Texture soundOffButtonTexture;
+    TextureRegion soundOnButtonTexture;
+    TextureRegion soundOffButtonTexture;
     Rectangle soundButtonRectangle;
-    Texture musicOnButtonTexture;
-    Texture musicOffButtonTexture;
+    TextureRegion musicOnButtonTexture;
+    TextureRegion musicOffButtonTexture;
     Rectangle musicButtonRectangle;
-    Texture infoButtonTexture;
+    TextureRegion infoButtonTexture;
     Rectangle infoButtonRectangle;
+    Rectangle qualityButtonRectangle;
 
     // Initializes the OK and back buttons.
-    Texture okButtonTexture;
+    TextureRegion okButtonTexture;
     Rectangle okButtonRectangle;
-    Texture smallOkButtonTexture;
+    TextureRegion smallOkButtonTexture;
     Rectangle smallOkButtonRectangle;
     Rectangle lowerSmallOkButtonRectangle;
-    Texture backButtonTexture;
+    TextureRegion backButtonTexture;
     Rectangle backButtonRectangle;
-    Texture smallBackButtonTexture;
+    TextureRegion smallBackButtonTexture;
     Rectangle smallBackButtonRectangle;
     Rectangle leftSmallBackButtonRectangle;
 
     // Initializes the show collab, enter, skip & retry, skip & back and retry buttons.
-    Texture showCollabButtonTexture;
+    TextureRegion showCollabButtonTexture;
     Rectangle showCollabButtonRectangle;
-    Texture enterButtonTexture;
+    TextureRegion enterButtonTexture;
     Rectangle enterButtonRectangle;
-    Texture skipAndRetryButtonTexture;
+    TextureRegion skipAndRetryButtonTexture;
     Rectangle skipAndRetryButtonRectangle;
-    Texture skipAndBackButtonTexture;
+    TextureRegion skipAndBackButtonTexture;
     Rectangle skipAndBackButtonRectangle;
-    Texture retryButtonTexture;
+    TextureRegion retryButtonTexture;
     Rectangle retryButtonRectangle;
 
     // Initializes the in-game buttons.
-    Texture pauseButtonTexture;
+    TextureRegion pauseButtonTexture;
     Rectangle pauseButtonRectangle;
-    Texture backToMenuButtonTexture;
+    TextureRegion backToMenuButtonTexture;
     Rectangle backToMenuButtonRectangle;
 
     final int MENU_BUTTON_POSITION_X = WINDOW_WIDTH / 2;
@@ -84,98 +85,98 @@ public class Button extends GameProject {
     public Button() {
 
         // Creates the main menu buttons.
-        settingsButtonTexture = new Texture("buttons/settings_button.png");
-        settingsButtonRectangle = new Rectangle(WINDOW_WIDTH - settingsButtonTexture.getWidth() - 5, WINDOW_HEIGHT - settingsButtonTexture.getHeight() - 5, settingsButtonTexture.getWidth(), settingsButtonTexture.getHeight());
-        startButtonTexture = new Texture("buttons/start_button.png");
-        startButtonRectangle = new Rectangle(MENU_BUTTON_POSITION_X - startButtonTexture.getWidth(), MENU_BUTTON_POSITION_Y + 150, startButtonTexture.getWidth() * 2, startButtonTexture.getHeight() * 2);
-        highScoresButtonTexture = new Texture("buttons/highscores_button.png");
-        highScoresButtonRectangle = new Rectangle(MENU_BUTTON_POSITION_X - highScoresButtonTexture.getWidth(), MENU_BUTTON_POSITION_Y + 75, highScoresButtonTexture.getWidth() * 2, highScoresButtonTexture.getHeight() * 2);
-        exitButtonTexture = new Texture("buttons/exit_button.png");
-        exitButtonRectangle = new Rectangle(MENU_BUTTON_POSITION_X - exitButtonTexture.getWidth(), MENU_BUTTON_POSITION_Y, exitButtonTexture.getWidth() * 2, exitButtonTexture.getHeight() * 2);
+        settingsButtonTexture = Assets.getRegion("buttons/settings_button.png");
+        settingsButtonRectangle = new Rectangle(WINDOW_WIDTH - settingsButtonTexture.getRegionWidth() - 5, WINDOW_HEIGHT - settingsButtonTexture.getRegionHeight() - 5, settingsButtonTexture.getRegionWidth(), settingsButtonTexture.getRegionHeight());
+        startButtonTexture = Assets.getRegion("buttons/start_button.png");
+        startButtonRectangle = new Rectangle(MENU_BUTTON_POSITION_X - startButtonTexture.getRegionWidth(), MENU_BUTTON_POSITION_Y + 150, startButtonTexture.getRegionWidth() * 2, startButtonTexture.getRegionHeight() * 2);
+        highScoresButtonTexture = Assets.getRegion("buttons/highscores_button.png");
+        highScoresButtonRectangle = new Rectangle(MENU_BUTTON_POSITION_X - highScoresButtonTexture.getRegionWidth(), MENU_BUTTON_POSITION_Y + 75, highScoresButtonTexture.getRegionWidth() * 2, highScoresButtonTexture.getRegionHeight() * 2);
+        exitButtonTexture = Assets.getRegion("buttons/exit_button.png");
+        exitButtonRectangle = new Rectangle(MENU_BUTTON_POSITION_X - exitButtonTexture.getRegionWidth(), MENU_BUTTON_POSITION_Y, exitButtonTexture.getRegionWidth() * 2, exitButtonTexture.getRegionHeight() * 2);
 
         // Creates the level selection menu buttons.
-        level1ButtonTexture = new Texture("buttons/level_1_button.png");
-        level1ButtonRectangle = new Rectangle(MENU_BUTTON_POSITION_X - level1ButtonTexture.getWidth(), MENU_BUTTON_POSITION_Y + 225, level1ButtonTexture.getWidth() * 2, level1ButtonTexture.getHeight() * 2);
-        level2ButtonTexture = new Texture("buttons/level_2_button.png");
-        level2ButtonRectangle = new Rectangle(MENU_BUTTON_POSITION_X - level2ButtonTexture.getWidth(), MENU_BUTTON_POSITION_Y + 150, level2ButtonTexture.getWidth() * 2, level2ButtonTexture.getHeight() * 2);
-        level3ButtonTexture = new Texture("buttons/level_3_button.png");
-        level3ButtonRectangle = new Rectangle(MENU_BUTTON_POSITION_X - level3ButtonTexture.getWidth(), MENU_BUTTON_POSITION_Y + 75, level3ButtonTexture.getWidth() * 2, level3ButtonTexture.getHeight() * 2);
+        level1ButtonTexture = Assets.getRegion("buttons/level_1_button.png");
+        level1ButtonRectangle = new Rectangle(MENU_BUTTON_POSITION_X - level1ButtonTexture.getRegionWidth(), MENU_BUTTON_POSITION_Y + 225, level1ButtonTexture.getRegionWidth() * 2, level1ButtonTexture.getRegionHeight() * 2);
+        level2ButtonTexture = Assets.getRegion("buttons/level_2_button.png");
+        level2ButtonRectangle = new Rectangle(MENU_BUTTON_POSITION_X - level2ButtonTexture.getRegionWidth(), MENU_BUTTON_POSITION_Y + 150, level2ButtonTexture.getRegionWidth() * 2, level2ButtonTexture.getRegionHeight() * 2);
+        level3ButtonTexture = Assets.getRegion("buttons/level_3_button.png");
+        level3ButtonRectangle = new Rectangle(MENU_BUTTON_POSITION_X - level3ButtonTexture.getRegionWidth(), MENU_BUTTON_POSITION_Y + 75, level3ButtonTexture.getRegionWidth() * 2, level3ButtonTexture.getRegionHeight() * 2);
 
         // Creates the settings menu buttons.
-        soundOnButtonTexture = new Texture("buttons/sound_on_button.png");
-        soundOffButtonTexture = new Texture("buttons/sound_off_button.png");
-        soundButtonRectangle = new Rectangle(WINDOW_WIDTH / 2 - soundOnButtonTexture.getWidth() / 2, MENU_BUTTON_POSITION_Y + 200, soundOnButtonTexture.getWidth(), soundOnButtonTexture.getHeight());
-        musicOnButtonTexture = new Texture("buttons/music_on_button.png");
-        musicOffButtonTexture = new Texture("buttons/music_off_button.png");
-        musicButtonRectangle = new Rectangle(WINDOW_WIDTH / 2 - musicOnButtonTexture.getWidth() / 2, MENU_BUTTON_POSITION_Y + 150, musicOnButtonTexture.getWidth(), musicOnButtonTexture.getHeight());
-        infoButtonTexture = new Texture("buttons/info_button.png");
-        infoButtonRectangle = new Rectangle(WINDOW_WIDTH / 2 - infoButtonTexture.getWidth() / 2, MENU_BUTTON_POSITION_Y + 100, infoButtonTexture.getWidth(), infoButtonTexture.getHeight());
+        soundOnButtonTexture = Assets.getRegion("buttons/sound_on_button.png");
+        soundOffButtonTexture = Assets.getRegion("buttons/sound_off_button.png");
+        soundButtonRectangle = new Rectangle(WINDOW_WIDTH / 2 - soundOnButtonTexture.getRegionWidth() / 2, MENU_BUTTON_POSITION_Y + 200, soundOnButtonTexture.getRegionWidth(), soundOnButtonTexture.getRegionHeight());
+        musicOnButtonTexture = Assets.getRegion("buttons/music_on_button.png");
+        musicOffButtonTexture = Assets.getRegion("buttons/music_off_button.png");
+        musicButtonRectangle = new Rectangle(WINDOW_WIDTH / 2 - musicOnButtonTexture.getRegionWidth() / 2, MENU_BUTTON_POSITION_Y + 150, musicOnButtonTexture.getRegionWidth(), musicOnButtonTexture.getRegionHeight());
+        infoButtonTexture = Assets.getRegion("buttons/info_button.png");
+        infoButtonRectangle = new Rectangle(WINDOW_WIDTH / 2 - infoButtonTexture.getRegionWidth() / 2, MENU_BUTTON_POSITION_Y + 100, infoButtonTexture.getRegionWidth(), infoButtonTexture.getRegionHeight());
+        // The graphics quality button is a text, drawn by Settings.
+        qualityButtonRectangle = new Rectangle(WINDOW_WIDTH / 2 - 80, MENU_BUTTON_POSITION_Y + 250, 160, 30);
 
         // Creates the OK and back buttons.
-        okButtonTexture = new Texture("buttons/ok_button.png");
-        okButtonRectangle = new Rectangle(MENU_BUTTON_POSITION_X - okButtonTexture.getWidth(), MENU_BUTTON_POSITION_Y, okButtonTexture.getWidth() * 2, okButtonTexture.getHeight() * 2);
-        smallOkButtonTexture = new Texture("buttons/ok_button.png");
-        smallOkButtonRectangle = new Rectangle(WINDOW_WIDTH / 2 - smallOkButtonTexture.getWidth() / 2, 60, okButtonTexture.getWidth(), okButtonTexture.getHeight());
-        lowerSmallOkButtonRectangle = new Rectangle(WINDOW_WIDTH / 2 - smallOkButtonTexture.getWidth() / 2, 15, okButtonTexture.getWidth(), okButtonTexture.getHeight());
-        backButtonTexture = new Texture("buttons/back_button.png");
-        backButtonRectangle = new Rectangle(MENU_BUTTON_POSITION_X - backButtonTexture.getWidth(), MENU_BUTTON_POSITION_Y, backButtonTexture.getWidth() * 2, backButtonTexture.getHeight() * 2);
-        smallBackButtonTexture = new Texture("buttons/back_button.png");
-        smallBackButtonRectangle = new Rectangle(WINDOW_WIDTH / 2 - smallBackButtonTexture.getWidth() / 2, 15, backButtonTexture.getWidth(), backButtonTexture.getHeight());
-        leftSmallBackButtonRectangle = new Rectangle(40, 15, backButtonTexture.getWidth(), backButtonTexture.getHeight());
+        okButtonTexture = Assets.getRegion("buttons/ok_button.png");
+        okButtonRectangle = new Rectangle(MENU_BUTTON_POSITION_X - okButtonTexture.getRegionWidth(), MENU_BUTTON_POSITION_Y, okButtonTexture.getRegionWidth() * 2, okButtonTexture.getRegionHeight() * 2);
+        smallOkButtonTexture = Assets.getRegion("buttons/ok_button.png");
+        smallOkButtonRectangle = new Rectangle(WINDOW_WIDTH / 2 - smallOkButtonTexture.getRegionWidth() / 2, 60, okButtonTexture.getRegionWidth(), okButtonTexture.getRegionHeight());
+        lowerSmallOkButtonRectangle = new Rectangle(WINDOW_WIDTH / 2 - smallOkButtonTexture.getRegionWidth() / 2, 15, okButtonTexture.getRegionWidth(), okButtonTexture.getRegionHeight());
+        backButtonTexture = Assets.getRegion("buttons/back_button.png");
+        backButtonRectangle = new Rectangle(MENU_BUTTON_POSITION_X - backButtonTexture.getRegionWidth(), MENU_BUTTON_POSITION_Y, backButtonTexture.getRegionWidth() * 2, backButtonTexture.getRegionHeight() * 2);
+        smallBackButtonTexture = Assets.getRegion("buttons/back_button.png");
+        smallBackButtonRectangle = new Rectangle(WINDOW_WIDTH / 2 - smallBackButtonTexture.getRegionWidth() / 2, 15, backButtonTexture.getRegionWidth(), backButtonTexture.getRegionHeight());
+        leftSmallBackButtonRectangle = new Rectangle(40, 15, backButtonTexture.getRegionWidth(), backButtonTexture.getRegionHeight());
 
         // Creates the show collab, enter, skip & retry, skip & back and retry buttons.
-        // Enter, skip & retry, skip & back and retry buttons' positions are defined in classes Run1, Run2 and Run3.
-        // This is because of the altering excessDistance variable.
-        showCollabButtonTexture = new Texture("buttons/show_collab_button.png");
-        showCollabButtonRectangle = new Rectangle(130, 15, showCollabButtonTexture.getWidth(), showCollabButtonTexture.getHeight());
-        enterButtonTexture = new Texture("buttons/enter_button.png");
+        // Enter, skip & retry, skip & back and retry buttons' positions are defined in class GameOver.
+        showCollabButtonTexture = Assets.getRegion("buttons/show_collab_button.png");
+        showCollabButtonRectangle = new Rectangle(130, 15, showCollabButtonTexture.getRegionWidth(), showCollabButtonTexture.getRegionHeight());
+        enterButtonTexture = Assets.getRegion("buttons/enter_button.png");
         enterButtonRectangle = new Rectangle();
-        enterButtonRectangle.setSize(enterButtonTexture.getWidth(), enterButtonTexture.getHeight());
-        skipAndRetryButtonTexture = new Texture("buttons/skip_and_retry_button.png");
+        enterButtonRectangle.setSize(enterButtonTexture.getRegionWidth(), enterButtonTexture.getRegionHeight());
+        skipAndRetryButtonTexture = Assets.getRegion("buttons/skip_and_retry_button.png");
         skipAndRetryButtonRectangle = new Rectangle();
-        skipAndRetryButtonRectangle.setSize(skipAndRetryButtonTexture.getWidth(), skipAndRetryButtonTexture.getHeight());
-        skipAndBackButtonTexture = new Texture("buttons/skip_and_back_button.png");
+        skipAndRetryButtonRectangle.setSize(skipAndRetryButtonTexture.getRegionWidth(), skipAndRetryButtonTexture.getRegionHeight());
+        skipAndBackButtonTexture = Assets.getRegion("buttons/skip_and_back_button.png");
         skipAndBackButtonRectangle = new Rectangle();
-        skipAndBackButtonRectangle.setSize(skipAndBackButtonTexture.getWidth(), skipAndBackButtonTexture.getHeight());
-        retryButtonTexture = new Texture("buttons/retry_button.png");
+        skipAndBackButtonRectangle.setSize(skipAndBackButtonTexture.getRegionWidth(), skipAndBackButtonTexture.getRegionHeight());
+        retryButtonTexture = Assets.getRegion("buttons/retry_button.png");
         retryButtonRectangle = new Rectangle();
-        retryButtonRectangle.setSize(retryButtonTexture.getWidth(), retryButtonTexture.getHeight());
+        retryButtonRectangle.setSize(retryButtonTexture.getRegionWidth(), retryButtonTexture.getRegionHeight());
 
         // Creates the in-game buttons.
-        // The in-game buttons' positions are defined in classes Run1, Run2 and Run3.
-        // This is because of the altering excessDistance variable.
-        pauseButtonTexture = new Texture("buttons/pause_button.png");
+        // The in-game buttons' positions are defined in class Hud.
+        pauseButtonTexture = Assets.getRegion("buttons/pause_button.png");
         pauseButtonRectangle = new Rectangle();
-        pauseButtonRectangle.setSize(pauseButtonTexture.getWidth() * 1.3f, pauseButtonTexture.getHeight() * 1.3f);
-        backToMenuButtonTexture = new Texture("buttons/back_to_menu_button.png");
+        pauseButtonRectangle.setSize(pauseButtonTexture.getRegionWidth() * 1.3f, pauseButtonTexture.getRegionHeight() * 1.3f);
+        backToMenuButtonTexture = Assets.getRegion("buttons/back_to_menu_button.png");
         backToMenuButtonRectangle = new Rectangle();
-        backToMenuButtonRectangle.setSize(backToMenuButtonTexture.getWidth() * 1.3f, backToMenuButtonTexture.getHeight() * 1.3f);
+        backToMenuButtonRectangle.setSize(backToMenuButtonTexture.getRegionWidth() * 1.3f, backToMenuButtonTexture.getRegionHeight() * 1.3f);
 
         // Used for Finnish locale
         if (isFinnish()) {
 
             // Main menu buttons
-            startButtonTexture = new Texture("buttons/buttons_FI/Pelaa.png");
-            highScoresButtonTexture = new Texture("buttons/buttons_FI/Tulokset.png");
-            exitButtonTexture = new Texture("buttons/buttons_FI/Poistu.png");
+            startButtonTexture = Assets.getRegion("buttons/buttons_FI/Pelaa.png");
+            highScoresButtonTexture = Assets.getRegion("buttons/buttons_FI/Tulokset.png");
+            exitButtonTexture = Assets.getRegion("buttons/buttons_FI/Poistu.png");
 
             // Level selection buttons
-            level1ButtonTexture = new Texture("buttons/buttons_FI/Taso1.png");
-            level2ButtonTexture = new Texture("buttons/buttons_FI/Taso2.png");
-            level3ButtonTexture = new Texture("buttons/buttons_FI/Taso3.png");
+            level1ButtonTexture = Assets.getRegion("buttons/buttons_FI/Taso1.png");
+            level2ButtonTexture = Assets.getRegion("buttons/buttons_FI/Taso2.png");
+            level3ButtonTexture = Assets.getRegion("buttons/buttons_FI/Taso3.png");
 
             // Back buttons
-            backButtonTexture = new Texture("buttons/buttons_FI/Takaisin.png");
-            smallBackButtonTexture = new Texture("buttons/buttons_FI/Takaisin.png");
+            backButtonTexture = Assets.getRegion("buttons/buttons_FI/Takaisin.png");
+            smallBackButtonTexture = Assets.getRegion("buttons/buttons_FI/Takaisin.png");
 
             // Game Over screen buttons
-            enterButtonTexture = new Texture("buttons/buttons_FI/Lisaa.png");
-            skipAndRetryButtonTexture = new Texture("buttons/buttons_FI/ohita_ja_juokse.png");
-            skipAndBackButtonTexture = new Texture("buttons/buttons_FI/ohita_ja_palaa.png");
-            retryButtonTexture = new Texture("buttons/buttons_FI/Pelaa.png");
+            enterButtonTexture = Assets.getRegion("buttons/buttons_FI/Lisaa.png");
+            skipAndRetryButtonTexture = Assets.getRegion("buttons/buttons_FI/ohita_ja_juokse.png");
+            skipAndBackButtonTexture = Assets.getRegion("buttons/buttons_FI/ohita_ja_palaa.png");
+            retryButtonTexture = Assets.getRegion("buttons/buttons_FI/Pelaa.png");
 
             // Credits screen buttons
-            showCollabButtonTexture = new Texture("buttons/buttons_FI/yhteistyossa.png");
+            showCollabButtonTexture = Assets.getRegion("buttons/buttons_FI/yhteistyossa.png");
         }
     }
 }
\ No newline at end of file
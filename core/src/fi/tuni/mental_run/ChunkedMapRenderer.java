@@ -0,0 +1,338 @@
+package fi.tuni.mental_run;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapImageLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * ChunkedMapRenderer draws the static run maps from geometry that is built only once.
+ * <p>
+ * The maps of the runs never change and only scroll vertically, so instead of rebuilding the vertices of
+ * every visible tile every frame like OrthogonalTiledMapRenderer does, the tile layers are baked into
+ * a SpriteCache when the renderer is created. Every layer is split into chunks of CHUNK_ROWS rows.
+ * render draws only the chunks that intersect the camera's view, which is one or two chunks per layer.
+ * Within a chunk the tiles are grouped by texture so that each chunk needs as few texture switches as possible.
+ * The cache is not indexed, so every tile is added as two triangles of NUM_TRIANGLE_VERTICES floats.
+ * <p>
+ * The tiles are positioned, flipped and rotated exactly like OrthogonalTiledMapRenderer does.
+ * Only tile layers are drawn, the run maps have no object or image layers.
+ */
+public class ChunkedMapRenderer implements TiledMapRenderer, Disposable {
+    static final int CHUNK_ROWS = 16;
+
+    // The floats of one vertex: x, y, color, u and v.
+    static final int VERTEX_SIZE = 5;
+
+    static final int NUM_VERTICES = 20;
+
+    // The floats of a tile as the two triangles 1, 2, 3 and 3, 4, 1 of its corners.
+    static final int NUM_TRIANGLE_VERTICES = 30;
+
+    TiledMap map;
+    SpriteCache cache;
+
+    // Cache ids of the chunks, chunkIds[layer][chunk]. -1 marks an empty chunk or a layer that is not a tile layer.
+    int[][] chunkIds;
+    float[] chunkHeights;
+
+    Matrix4 projection = new Matrix4();
+    float viewBottom;
+    float viewTop;
+
+    /**
+     * Bakes the tile layers of the given map.
+     *
+     * @param map the tiled map of the run
+     */
+    public ChunkedMapRenderer(TiledMap map) {
+        this.map = map;
+
+        int tileCount = 0;
+        for (MapLayer layer : map.getLayers()) {
+            if (layer instanceof TiledMapTileLayer) {
+                TiledMapTileLayer tileLayer = (TiledMapTileLayer) layer;
+                for (int y = 0; y < tileLayer.getHeight(); y++) {
+                    for (int x = 0; x < tileLayer.getWidth(); x++) {
+                        if (tileLayer.getCell(x, y) != null) {
+                            tileCount++;
+                        }
+                    }
+                }
+            }
+        }
+        // Without indices the cache is not limited to 8191 tiles, but it takes six vertices per tile.
+        cache = new SpriteCache(Math.max(tileCount, 1), false);
+
+        float[] vertices = new float[NUM_VERTICES];
+        float[] triangles = new float[NUM_TRIANGLE_VERTICES];
+        Array<Texture> textures = new Array<>();
+        chunkIds = new int[map.getLayers().getCount()][];
+        chunkHeights = new float[map.getLayers().getCount()];
+        for (int i = 0; i < chunkIds.length; i++) {
+            MapLayer layer = map.getLayers().get(i);
+            if (!(layer instanceof TiledMapTileLayer)) {
+                chunkIds[i] = new int[0];
+                continue;
+            }
+            TiledMapTileLayer tileLayer = (TiledMapTileLayer) layer;
+            float color = Color.toFloatBits(1, 1, 1, tileLayer.getOpacity());
+            chunkHeights[i] = CHUNK_ROWS * tileLayer.getTileHeight();
+
+            int chunkCount = (tileLayer.getHeight() + CHUNK_ROWS - 1) / CHUNK_ROWS;
+            chunkIds[i] = new int[chunkCount];
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                int firstRow = chunk * CHUNK_ROWS;
+                int lastRow = Math.min(firstRow + CHUNK_ROWS, tileLayer.getHeight());
+
+                // The tiles of one layer never overlap, so they can be added in texture order.
+                textures.clear();
+                for (int y = firstRow; y < lastRow; y++) {
+                    for (int x = 0; x < tileLayer.getWidth(); x++) {
+                        TiledMapTile tile = getTile(tileLayer, x, y);
+                        if (tile != null && !textures.contains(tile.getTextureRegion().getTexture(), true)) {
+                            textures.add(tile.getTextureRegion().getTexture());
+                        }
+                    }
+                }
+                if (textures.size == 0) {
+                    chunkIds[i][chunk] = -1;
+                    continue;
+                }
+
+                cache.beginCache();
+                for (Texture texture : textures) {
+                    for (int y = firstRow; y < lastRow; y++) {
+                        for (int x = 0; x < tileLayer.getWidth(); x++) {
+                            TiledMapTile tile = getTile(tileLayer, x, y);
+                            if (tile != null && tile.getTextureRegion().getTexture() == texture) {
+                                setTileVertices(vertices, tileLayer.getCell(x, y),
+                                        x * tileLayer.getTileWidth() + tileLayer.getRenderOffsetX(),
+                                        y * tileLayer.getTileHeight() - tileLayer.getRenderOffsetY(), color);
+                                setTriangleVertices(triangles, vertices);
+                                cache.add(texture, triangles, 0, NUM_TRIANGLE_VERTICES);
+                            }
+                        }
+                    }
+                }
+                chunkIds[i][chunk] = cache.endCache();
+            }
+        }
+    }
+
+    /**
+     * Returns the tile in the given cell or null if the cell is empty.
+     */
+    static TiledMapTile getTile(TiledMapTileLayer layer, int x, int y) {
+        TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+        return cell == null ? null : cell.getTile();
+    }
+
+    /**
+     * Writes the vertices of one tile the same way OrthogonalTiledMapRenderer does.
+     *
+     * @param vertices the array of NUM_VERTICES floats to write to
+     * @param cell     the cell to draw
+     * @param x        the x coordinate of the cell
+     * @param y        the y coordinate of the cell
+     * @param color    the packed color of the layer
+     */
+    static void setTileVertices(float[] vertices, TiledMapTileLayer.Cell cell, float x, float y, float color) {
+        TiledMapTile tile = cell.getTile();
+        TextureRegion region = tile.getTextureRegion();
+
+        float x1 = x + tile.getOffsetX();
+        float y1 = y + tile.getOffsetY();
+        float x2 = x1 + region.getRegionWidth();
+        float y2 = y1 + region.getRegionHeight();
+
+        float u1 = region.getU();
+        float v1 = region.getV2();
+        float u2 = region.getU2();
+        float v2 = region.getV();
+
+        vertices[Batch.X1] = x1;
+        vertices[Batch.Y1] = y1;
+        vertices[Batch.C1] = color;
+        vertices[Batch.U1] = u1;
+        vertices[Batch.V1] = v1;
+
+        vertices[Batch.X2] = x1;
+        vertices[Batch.Y2] = y2;
+        vertices[Batch.C2] = color;
+        vertices[Batch.U2] = u1;
+        vertices[Batch.V2] = v2;
+
+        vertices[Batch.X3] = x2;
+        vertices[Batch.Y3] = y2;
+        vertices[Batch.C3] = color;
+        vertices[Batch.U3] = u2;
+        vertices[Batch.V3] = v2;
+
+        vertices[Batch.X4] = x2;
+        vertices[Batch.Y4] = y1;
+        vertices[Batch.C4] = color;
+        vertices[Batch.U4] = u2;
+        vertices[Batch.V4] = v1;
+
+        if (cell.getFlipHorizontally()) {
+            swap(vertices, Batch.U1, Batch.U3);
+            swap(vertices, Batch.U2, Batch.U4);
+        }
+        if (cell.getFlipVertically()) {
+            swap(vertices, Batch.V1, Batch.V3);
+            swap(vertices, Batch.V2, Batch.V4);
+        }
+        switch (cell.getRotation()) {
+            case TiledMapTileLayer.Cell.ROTATE_90:
+                rotate(vertices, Batch.V1, Batch.V2, Batch.V3, Batch.V4);
+                rotate(vertices, Batch.U1, Batch.U2, Batch.U3, Batch.U4);
+                break;
+            case TiledMapTileLayer.Cell.ROTATE_180:
+                swap(vertices, Batch.U1, Batch.U3);
+                swap(vertices, Batch.U2, Batch.U4);
+                swap(vertices, Batch.V1, Batch.V3);
+                swap(vertices, Batch.V2, Batch.V4);
+                break;
+            case TiledMapTileLayer.Cell.ROTATE_270:
+                rotate(vertices, Batch.V1, Batch.V4, Batch.V3, Batch.V2);
+                rotate(vertices, Batch.U1, Batch.U4, Batch.U3, Batch.U2);
+                break;
+        }
+    }
+
+    /**
+     * Writes the corners 1, 2, 3 and 3, 4, 1 of a tile as the two triangles that the non-indexed cache draws.
+     *
+     * @param triangles the array of NUM_TRIANGLE_VERTICES floats to write to
+     * @param vertices  the NUM_VERTICES floats of the tile's corners, written by setTileVertices
+     */
+    static void setTriangleVertices(float[] triangles, float[] vertices) {
+        // Corners 1, 2 and 3.
+        System.arraycopy(vertices, Batch.X1, triangles, 0, 3 * VERTEX_SIZE);
+        // Corners 3 and 4.
+        System.arraycopy(vertices, Batch.X3, triangles, 3 * VERTEX_SIZE, 2 * VERTEX_SIZE);
+        // Corner 1.
+        System.arraycopy(vertices, Batch.X1, triangles, 5 * VERTEX_SIZE, VERTEX_SIZE);
+    }
+
+    private static void swap(float[] vertices, int a, int b) {
+        float temp = vertices[a];
+        vertices[a] = vertices[b];
+        vertices[b] = temp;
+    }
+
+    // Moves the value of b to a, c to b, d to c and a to d.
+    private static void rotate(float[] vertices, int a, int b, int c, int d) {
+        float temp = vertices[a];
+        vertices[a] = vertices[b];
+        vertices[b] = vertices[c];
+        vertices[c] = vertices[d];
+        vertices[d] = temp;
+    }
+
+    @Override
+    public void setView(OrthographicCamera camera) {
+        float height = camera.viewportHeight * camera.zoom;
+        setView(camera.combined, 0, camera.position.y - height / 2, 0, height);
+    }
+
+    @Override
+    public void setView(Matrix4 projectionMatrix, float viewboundsX, float viewboundsY, float viewboundsWidth, float viewboundsHeight) {
+        projection.set(projectionMatrix);
+        viewBottom = viewboundsY;
+        viewTop = viewboundsY + viewboundsHeight;
+    }
+
+    @Override
+    public void render() {
+        beginRender();
+        for (int i = 0; i < chunkIds.length; i++) {
+            if (map.getLayers().get(i).isVisible()) {
+                renderChunks(i);
+            }
+        }
+        endRender();
+    }
+
+    @Override
+    public void render(int[] layers) {
+        beginRender();
+        for (int i : layers) {
+            if (map.getLayers().get(i).isVisible()) {
+                renderChunks(i);
+            }
+        }
+        endRender();
+    }
+
+    @Override
+    public void renderTileLayer(TiledMapTileLayer layer) {
+        beginRender();
+        renderChunks(map.getLayers().getIndex(layer));
+        endRender();
+    }
+
+    @Override
+    public void renderObjects(MapLayer layer) {
+    }
+
+    @Override
+    public void renderObject(MapObject object) {
+    }
+
+    @Override
+    public void renderImageLayer(TiledMapImageLayer layer) {
+    }
+
+    private void beginRender() {
+        cache.setProjectionMatrix(projection);
+        // SpriteCache does not enable blending by itself. SpriteBatch disables it again in its end.
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.begin();
+    }
+
+    private void endRender() {
+        cache.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    /**
+     * Draws the chunks of the given layer that intersect the view.
+     *
+     * @param layer the index of the layer
+     */
+    private void renderChunks(int layer) {
+        int[] ids = chunkIds[layer];
+        if (ids.length == 0) {
+            return;
+        }
+        int first = Math.max((int) Math.floor(viewBottom / chunkHeights[layer]), 0);
+        int last = Math.min((int) Math.floor(viewTop / chunkHeights[layer]), ids.length - 1);
+        for (int chunk = first; chunk <= last; chunk++) {
+            if (ids[chunk] != -1) {
+                cache.draw(ids[chunk]);
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        cache.dispose();
+    }
+}
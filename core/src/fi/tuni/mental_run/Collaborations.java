@@ -6,6 +6,7 @@ import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector3;
 
 /**
@@ -17,15 +18,15 @@ import com.badlogic.gdx.math.Vector3;
  * Back button takes you back to Settings.
  * GameProject host is forwarded to Settings.
  * Extends GameProject.
- * Implements interface Screen.
+ * Implements interfaces Screen and RenderScheduler.OnDemand.
  *
  * @author Joni Mäkinen
  */
-public class Collaborations extends fi.tuni.mental_run.GameProject implements Screen {
+public class Collaborations extends fi.tuni.mental_run.GameProject implements Screen, RenderScheduler.OnDemand {
     MenuBackground menuBackground = new MenuBackground();
     Button button = new Button();
 
-    Texture collaborationsHeaderTexture;
+    TextureRegion collaborationsHeaderTexture;
     Texture tuniTexture;
     Texture elaytyenOsalliseksiTexture;
     Texture europeanUnionTexture;
@@ -59,16 +60,14 @@ public class Collaborations extends fi.tuni.mental_run.GameProject implements Sc
         // Camera width is WINDOW_WIDTH, camera height is WINDOW_HEIGHT.
         camera.setToOrtho(false, WINDOW_WIDTH, WINDOW_HEIGHT);
 
-        soundEffectPressButton = Gdx.audio.newSound(Gdx.files.internal("sound_effects/press_button.mp3"));
+        largerTurquoiseBoardTexture = Assets.getTexture("backgrounds/larger_turquoise_board.png");
+        collaborationsHeaderTexture = Assets.getRegion("headers/collaborations_header.png");
+        tuniTexture = Assets.getTexture("collaborations_images/tuni_tamk_logo_eng.png");
+        elaytyenOsalliseksiTexture = Assets.getTexture("collaborations_images/elaytyen_osalliseksi.png");
+        europeanUnionTexture = Assets.getTexture("collaborations_images/euroopan_unioni.png");
+        vipuvoimaaTexture = Assets.getTexture("collaborations_images/vipuvoimaa.png");
 
-        largerTurquoiseBoardTexture = new Texture("backgrounds/larger_turquoise_board.png");
-        collaborationsHeaderTexture = new Texture("headers/collaborations_header.png");
-        tuniTexture = new Texture("collaborations_images/tuni_tamk_logo_eng.png");
-        elaytyenOsalliseksiTexture = new Texture("collaborations_images/elaytyen_osalliseksi.png");
-        europeanUnionTexture = new Texture("collaborations_images/euroopan_unioni.png");
-        vipuvoimaaTexture = new Texture("collaborations_images/vipuvoimaa.png");
-
-        roboto = host.generateSmallerFont();
+        roboto = Assets.getFont(Assets.SMALLER_FONT);
 
         collab = getLevelText("collaboration");
     }
@@ -86,7 +85,7 @@ public class Collaborations extends fi.tuni.mental_run.GameProject implements Sc
         batch.begin();
         batch.draw(menuBackground.currentFrame, menuBackground.menuBackgroundRectangle.x, menuBackground.menuBackgroundRectangle.y, WINDOW_WIDTH, WINDOW_HEIGHT);
         batch.draw(largerTurquoiseBoardTexture, 4, 3);
-        batch.draw(collaborationsHeaderTexture, WINDOW_WIDTH / 2 - collaborationsHeaderTexture.getWidth(), 410, collaborationsHeaderTexture.getWidth() * 2, collaborationsHeaderTexture.getHeight() * 2);
+        batch.draw(collaborationsHeaderTexture, WINDOW_WIDTH / 2 - collaborationsHeaderTexture.getRegionWidth(), 410, collaborationsHeaderTexture.getRegionWidth() * 2, collaborationsHeaderTexture.getRegionHeight() * 2);
         roboto.draw(batch, collab, 12, 405);
         batch.draw(tuniTexture, WINDOW_WIDTH / 2 - tuniTexture.getWidth() / 2, 235, tuniTexture.getWidth(), tuniTexture.getHeight());
         batch.draw(elaytyenOsalliseksiTexture, WINDOW_WIDTH / 2 - elaytyenOsalliseksiTexture.getWidth() / 2, 140, elaytyenOsalliseksiTexture.getWidth(), elaytyenOsalliseksiTexture.getHeight());
@@ -96,20 +95,30 @@ public class Collaborations extends fi.tuni.mental_run.GameProject implements Sc
         batch.end();
     }
 
+    /**
+     * Returns the time until the background animation changes its frame. The screen is rendered on demand.
+     *
+     * @return the time in seconds
+     */
+    @Override
+    public float getTimeToNextChange() {
+        return menuBackground.getTimeToNextFrame(statetime);
+    }
+
     /**
      * Checks for user input for the back button.
      */
     public void checkInput() {
         if (Gdx.input.justTouched()) {
             touchPos = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-            camera.unproject(touchPos);
+            RenderTarget.unproject(camera, touchPos);
 
             if (button.lowerSmallOkButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
                 // Takes you to Settings.
-                host.setScreen(new Settings(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, statetime));
+                host.screenManager.showSettings(musicOn, soundOn, statetime);
             }
         }
     }
@@ -126,20 +135,6 @@ public class Collaborations extends fi.tuni.mental_run.GameProject implements Sc
 
     @Override
     public void dispose() {
-        batch.dispose();
-
-        menuBackgroundMusic.dispose();
-        soundEffectPressButton.dispose();
-
-        menuBackground.menuBackgroundSheet.dispose();
-        largerTurquoiseBoardTexture.dispose();
-        collaborationsHeaderTexture.dispose();
-        tuniTexture.dispose();
-        elaytyenOsalliseksiTexture.dispose();
-        europeanUnionTexture.dispose();
-        vipuvoimaaTexture.dispose();
-        button.smallBackButtonTexture.dispose();
 
-        roboto.dispose();
     }
 }
\ No newline at end of file
@@ -1,28 +1,30 @@
 package fi.tuni.mental_run;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
- * Collectible contains common variables of the collectibles.
+ * Collectible is one kind of collectible in a run or a tutorial.
  * <p>
- * Extends GameProject.
- * Every collectible class extend Collectible.
+ * It has the texture and the reward of its CollectibleKind. The positions of the collectibles on the map
+ * are kept in CollectibleStore and the spawn times in SpawnScheduler.
  *
  * @author Joni Mäkinen
  */
-public class Collectible extends GameProject {
-    Texture texture;
+public class Collectible {
+    final CollectibleKind kind;
 
-    Rectangle rectangle;
+    TextureRegion texture;
 
-    int COLLECTIBLE_WIDTH = 32;
-    int COLLECTIBLE_HEIGHT = 32;
-
-    int filler;
     int reward;
 
-    float xPos;
-
-    String id;
-}
\ No newline at end of file
+    /**
+     * Constructs the collectible of the given kind.
+     *
+     * @param kind the kind of the collectible
+     */
+    public Collectible(CollectibleKind kind) {
+        this.kind = kind;
+        texture = Assets.getRegion(kind.texture);
+        reward = kind.reward;
+    }
+}
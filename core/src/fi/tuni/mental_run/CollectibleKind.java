@@ -0,0 +1,59 @@
+package fi.tuni.mental_run;
+
+/**
+ * CollectibleKind is the table of every kind of collectible in the game.
+ * <p>
+ * A row has the texture of the kind and everything that happens when the character collects it:
+ * the points rewarded, the change in lives, the change in the character's vertical speed and
+ * how many steps the speed change lasts, and the sound played. How often a kind is spawned is set by the Level.
+ * Run handles every collision with the same code by looking up the row of the collected kind,
+ * so a new kind of collectible only needs a new row.
+ */
+public enum CollectibleKind {
+    // Level 1.
+    ALARM_CLOCK("alarmclock.png", 175, 0, 0, 0, SoundManager.Effect.COLLECTIBLE_POSITIVE),
+    BACKPACK("Backpack.png", 150, 0, 0, 0, SoundManager.Effect.COLLECTIBLE_POSITIVE),
+    BED("bed1.png", 0, -1, 0, 0, SoundManager.Effect.COLLECTIBLE_NEGATIVE),
+    NO_BREAKFAST("NoBreakfast.png", 0, -1, 0, 0, SoundManager.Effect.COLLECTIBLE_NEGATIVE),
+    PORRIDGE("porridge.png", 200, 0, 0, 0, SoundManager.Effect.COLLECTIBLE_POSITIVE),
+    TOOTHBRUSH("Toothbrush.png", 125, 0, 0, 0, SoundManager.Effect.COLLECTIBLE_POSITIVE),
+
+    // Level 2.
+    SOCIABILITY("sociability.png", 200, 0, 0, 0, SoundManager.Effect.COLLECTIBLE_POSITIVE),
+    SCHOOLBOOK("schoolbook.png", 175, 0, 0, 0, SoundManager.Effect.COLLECTIBLE_POSITIVE),
+    FOOTBALL("football.png", 150, 0, 0, 0, SoundManager.Effect.COLLECTIBLE_POSITIVE),
+    LUNCH("lunch.png", 125, 0, 0, 0, SoundManager.Effect.COLLECTIBLE_POSITIVE),
+    CANDY("candy.png", 0, -1, 0, 0, SoundManager.Effect.COLLECTIBLE_NEGATIVE),
+    MOBILE_PHONE("mobile_phone.png", 0, -1, 0, 0, SoundManager.Effect.COLLECTIBLE_NEGATIVE),
+
+    // Level 3.
+    ENERGY_DRINK("energy_drink.png", 0, -1, 0, 0, SoundManager.Effect.COLLECTIBLE_NEGATIVE),
+    GAMING("gaming.png", 0, -1, 0, 0, SoundManager.Effect.COLLECTIBLE_NEGATIVE),
+    SANDWICH("sandwich.png", 150, 0, 0, 0, SoundManager.Effect.COLLECTIBLE_POSITIVE),
+    SHOWER("shower.png", 125, 0, 0, 0, SoundManager.Effect.COLLECTIBLE_POSITIVE),
+    SLEEP("sleep.png", 200, 0, 0, 0, SoundManager.Effect.COLLECTIBLE_POSITIVE),
+    TOOTHBRUSH_3("toothbrush3.png", 175, 0, 0, 0, SoundManager.Effect.COLLECTIBLE_POSITIVE),
+
+    // Every level. Slows the character down by 2 for 300 steps, which is five seconds.
+    SPECIAL("special_collectible.png", 0, 0, -2, 300, SoundManager.Effect.SPECIAL_COLLECTIBLE);
+
+    static final int COLLECTIBLE_WIDTH = 32;
+    static final int COLLECTIBLE_HEIGHT = 32;
+
+    final String texture;
+    final int reward;
+    final int lives;
+    final int speedChange;
+    final int speedChangeSteps;
+    final SoundManager.Effect sound;
+
+    CollectibleKind(String texture, int reward, int lives, int speedChange, int speedChangeSteps,
+                    SoundManager.Effect sound) {
+        this.texture = "collectibles/" + texture;
+        this.reward = reward;
+        this.lives = lives;
+        this.speedChange = speedChange;
+        this.speedChangeSteps = speedChangeSteps;
+        this.sound = sound;
+    }
+}
@@ -0,0 +1,251 @@
+package fi.tuni.mental_run;
+
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * CollectibleStore keeps the collectibles that are on the map during a run.
+ * <p>
+ * The collectibles are stored in parallel primitive arrays: the x and y coordinates, the lane and the type of
+ * the collectible in each slot. The type is an index to the Collectible table of the run, which has
+ * the texture and the reward shared by all collectibles of the type.
+ * The slots of removed collectibles are kept in a free list and reused, so no memory is allocated
+ * after the store has been created and any number of collectibles of a type can be on the map at once.
+ * Slots that are not in use have the type FREE. The slots in use are all below end.
+ * <p>
+ * Every lane also has a ring buffer of its slots in the order of their y coordinates. The collectibles are
+ * always added at the top of the screen, so a new collectible goes to the end of its lane and the collectibles
+ * that leave the bottom of the screen are taken from the start. The lanes are further apart than the width of
+ * a collectible, so the overlap checks only look at one lane and only at the collectibles near the given y.
+ */
+public class CollectibleStore {
+    static final byte FREE = -1;
+
+    final float[] x;
+    final float[] y;
+    final byte[] lane;
+    final byte[] type;
+
+    final float width;
+    final float height;
+
+    // The x coordinate of the collectibles in each lane.
+    final float[] laneX;
+
+    // The slots of each lane from the lowest y to the highest, laneSlots[lane][(laneStart[lane] + i) % capacity].
+    final int[][] laneSlots;
+    final int[] laneStart;
+    final int[] laneSize;
+
+    // The free slots below end, used as a stack.
+    final int[] freeSlots;
+    int freeCount;
+
+    // Every slot from end onwards is free.
+    int end;
+
+    // The number of collectibles in the store.
+    int size;
+
+    /**
+     * Creates an empty store.
+     *
+     * @param capacity the maximum number of collectibles on the map at once
+     * @param laneX    the x coordinate of the collectibles in each lane
+     * @param width    the width of every collectible
+     * @param height   the height of every collectible
+     */
+    public CollectibleStore(int capacity, float[] laneX, float width, float height) {
+        x = new float[capacity];
+        y = new float[capacity];
+        lane = new byte[capacity];
+        type = new byte[capacity];
+        freeSlots = new int[capacity];
+        this.laneX = laneX;
+        laneSlots = new int[laneX.length][capacity];
+        laneStart = new int[laneX.length];
+        laneSize = new int[laneX.length];
+        this.width = width;
+        this.height = height;
+        clear();
+    }
+
+    /**
+     * Adds a collectible to the top of the given lane.
+     *
+     * @param collectibleType the index of the collectible's type
+     * @param collectibleLane the lane of the collectible
+     * @param yPos            the y coordinate of the collectible, not lower than the collectibles already in the lane
+     * @return the slot of the collectible, or -1 if the store is full
+     */
+    public int add(int collectibleType, int collectibleLane, float yPos) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else if (end < type.length) {
+            slot = end++;
+        } else {
+            return -1;
+        }
+        x[slot] = laneX[collectibleLane];
+        y[slot] = yPos;
+        lane[slot] = (byte) collectibleLane;
+        type[slot] = (byte) collectibleType;
+        size++;
+
+        int capacity = type.length;
+        laneSlots[collectibleLane][(laneStart[collectibleLane] + laneSize[collectibleLane]) % capacity] = slot;
+        laneSize[collectibleLane]++;
+        return slot;
+    }
+
+    /**
+     * Removes the collectible in the given slot.
+     *
+     * @param slot a slot in use
+     */
+    public void remove(int slot) {
+        int l = lane[slot];
+        int capacity = type.length;
+        int[] slots = laneSlots[l];
+        // The removed collectible is usually the first of its lane, so this search is short.
+        int i = 0;
+        while (slots[(laneStart[l] + i) % capacity] != slot) {
+            i++;
+        }
+        if (i == 0) {
+            laneStart[l] = (laneStart[l] + 1) % capacity;
+        } else {
+            for (; i < laneSize[l] - 1; i++) {
+                slots[(laneStart[l] + i) % capacity] = slots[(laneStart[l] + i + 1) % capacity];
+            }
+        }
+        laneSize[l]--;
+        free(slot);
+    }
+
+    /**
+     * Marks the slot free after it has been taken out of its lane.
+     *
+     * @param slot a slot in use
+     */
+    private void free(int slot) {
+        type[slot] = FREE;
+        size--;
+        if (slot == end - 1) {
+            end--;
+        } else {
+            freeSlots[freeCount++] = slot;
+        }
+        // Once the store is empty, the slots are used from the start again.
+        if (size == 0) {
+            end = 0;
+            freeCount = 0;
+        }
+    }
+
+    /**
+     * Removes the collectibles whose y coordinate is at or below the given y.
+     *
+     * @param bottom the y coordinate
+     */
+    public void removeBelow(float bottom) {
+        int capacity = type.length;
+        for (int l = 0; l < laneX.length; l++) {
+            while (laneSize[l] > 0 && y[laneSlots[l][laneStart[l]]] <= bottom) {
+                int slot = laneSlots[l][laneStart[l]];
+                laneStart[l] = (laneStart[l] + 1) % capacity;
+                laneSize[l]--;
+                free(slot);
+            }
+        }
+    }
+
+    /**
+     * Removes every collectible.
+     */
+    public void clear() {
+        for (int i = 0; i < type.length; i++) {
+            type[i] = FREE;
+        }
+        for (int l = 0; l < laneX.length; l++) {
+            laneStart[l] = 0;
+            laneSize[l] = 0;
+        }
+        end = 0;
+        freeCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns whether a collectible added to the top of the lane at the given y would overlap
+     * a collectible in the store.
+     *
+     * @param collectibleLane the lane of the new collectible
+     * @param yPos            the y coordinate of the new collectible
+     * @return true if the position is taken
+     */
+    public boolean overlaps(int collectibleLane, float yPos) {
+        if (laneSize[collectibleLane] == 0) {
+            return false;
+        }
+        // Only the highest collectible of the lane can reach the new one.
+        int last = laneSlots[collectibleLane][(laneStart[collectibleLane] + laneSize[collectibleLane] - 1) % type.length];
+        return y[last] + height > yPos;
+    }
+
+    /**
+     * Returns the slot of the lowest collectible of the lane that reaches above the given y.
+     *
+     * @param collectibleLane the lane
+     * @param yPos            the y coordinate
+     * @return a slot in use, or -1 if the lane has no collectible above yPos
+     */
+    public int findAbove(int collectibleLane, float yPos) {
+        for (int i = 0; i < laneSize[collectibleLane]; i++) {
+            int slot = laneSlots[collectibleLane][(laneStart[collectibleLane] + i) % type.length];
+            if (y[slot] + height > yPos) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the slot of a collectible that overlaps the given rectangle.
+     * <p>
+     * Only the lanes within the rectangle's x range are searched, and in them only the collectibles
+     * from the bottom of the screen up to the top of the rectangle.
+     *
+     * @param rectangle the rectangle, for example the bounds of the character
+     * @return a slot in use, or -1 if no collectible overlaps the rectangle
+     */
+    public int findOverlap(Rectangle rectangle) {
+        int capacity = type.length;
+        for (int l = 0; l < laneX.length; l++) {
+            if (laneX[l] >= rectangle.x + rectangle.width || laneX[l] + width <= rectangle.x) {
+                continue;
+            }
+            for (int i = 0; i < laneSize[l]; i++) {
+                int slot = laneSlots[l][(laneStart[l] + i) % capacity];
+                if (y[slot] >= rectangle.y + rectangle.height) {
+                    break;
+                }
+                if (y[slot] + height > rectangle.y) {
+                    return slot;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Moves every collectible vertically. Used when the map loops.
+     *
+     * @param amount the amount to add to the y coordinates
+     */
+    public void translateY(float amount) {
+        for (int i = 0; i < end; i++) {
+            y[i] += amount;
+        }
+    }
+}
@@ -1,8 +1,7 @@
 package fi.tuni.mental_run;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 
 import java.util.Timer;
@@ -19,10 +18,10 @@ import java.util.TimerTask;
 public class Countdown extends GameProject {
     Timer timer;
 
-    Texture number3Texture;
-    Texture number2Texture;
-    Texture number1Texture;
-    Texture goTexture;
+    TextureRegion number3Texture;
+    TextureRegion number2Texture;
+    TextureRegion number1Texture;
+    TextureRegion goTexture;
 
     Rectangle rectangle;
 
@@ -40,21 +39,18 @@ public class Countdown extends GameProject {
     boolean initialBeepGoDone;
 
     /**
-     * A constructor for creating a countdown timer, rectangle, textures, sound effects, a font and an instruction text.
+     * A constructor for creating a countdown timer, rectangle, textures, a font and an instruction text.
      */
     public Countdown() {
         timer = new Timer();
 
-        roboto = generateFont();
+        roboto = Assets.getFont(Assets.FONT);
         controls = getLevelText("controls");
 
-        soundEffectCountdown321 = Gdx.audio.newSound(Gdx.files.internal("sound_effects/countdown321.mp3"));
-        soundEffectCountdownGo = Gdx.audio.newSound(Gdx.files.internal("sound_effects/countdown_go.mp3"));
-
-        number3Texture = new Texture("countdown/countdown_3.png");
-        number2Texture = new Texture("countdown/countdown_2.png");
-        number1Texture = new Texture("countdown/countdown_1.png");
-        goTexture = new Texture("countdown/countdown_go.png");
+        number3Texture = Assets.getRegion("countdown/countdown_3.png");
+        number2Texture = Assets.getRegion("countdown/countdown_2.png");
+        number1Texture = Assets.getRegion("countdown/countdown_1.png");
+        goTexture = Assets.getRegion("countdown/countdown_go.png");
 
         rectangle = new Rectangle(WINDOW_WIDTH / 2 - COUNTDOWN_WIDTH / 2, WINDOW_HEIGHT / 2 - COUNTDOWN_HEIGHT / 2, COUNTDOWN_WIDTH, COUNTDOWN_HEIGHT);
     }
@@ -76,13 +72,13 @@ public class Countdown extends GameProject {
                 secondsLeft--;
                 if (secondsLeft > 0) {
                     if (soundOn) {
-                        soundEffectPressButton.play();
+                        SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                     }
                 }
             }
             if (secondsLeft == 0) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
                 timer.cancel();
                 completed = true;
@@ -93,7 +89,7 @@ public class Countdown extends GameProject {
     /**
      * Draws the countdown sequence and the instruction text below it.
      *
-     * @param batch   from Run1, Run2 or Run3. Its draw function is called in draw
+     * @param batch   from Run. Its draw function is called in draw
      * @param soundOn tells the function whether to play the countdown sequence sounds or not
      */
     public void draw(SpriteBatch batch, boolean soundOn) {
@@ -103,28 +99,28 @@ public class Countdown extends GameProject {
         // Draws the countdown sequence.
         if (secondsLeft == 3) {
             if (soundOn && !initialBeep3Done) {
-                soundEffectCountdown321.play();
+                SoundManager.play(SoundManager.Effect.COUNTDOWN_321);
                 initialBeep3Done = true;
             }
             batch.draw(number3Texture, rectangle.getX(), rectangle.getY(), rectangle.width, rectangle.height);
         }
         if (secondsLeft == 2) {
             if (soundOn && !initialBeep2Done) {
-                soundEffectCountdown321.play();
+                SoundManager.play(SoundManager.Effect.COUNTDOWN_321);
                 initialBeep2Done = true;
             }
             batch.draw(number2Texture, rectangle.getX(), rectangle.getY(), rectangle.width, rectangle.height);
         }
         if (secondsLeft == 1) {
             if (soundOn && !initialBeep1Done) {
-                soundEffectCountdown321.play();
+                SoundManager.play(SoundManager.Effect.COUNTDOWN_321);
                 initialBeep1Done = true;
             }
             batch.draw(number1Texture, rectangle.getX(), rectangle.getY(), rectangle.width, rectangle.height);
         }
         if (secondsLeft == 0) {
             if (soundOn && !initialBeepGoDone) {
-                soundEffectCountdownGo.play();
+                SoundManager.play(SoundManager.Effect.COUNTDOWN_GO);
                 initialBeepGoDone = true;
             }
             batch.draw(goTexture, rectangle.getX(), rectangle.getY(), rectangle.width, rectangle.height);
@@ -6,6 +6,7 @@ import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector3;
 
 /**
@@ -17,17 +18,17 @@ import com.badlogic.gdx.math.Vector3;
  * Back button takes you back to Settings and show collab button takes you to Collaborations.
  * GameProject host is forwarded to both of these classes.
  * Extends GameProject.
- * Implements interface Screen.
+ * Implements interfaces Screen and RenderScheduler.OnDemand.
  *
  * @author Joni Mäkinen
  */
-public class Credits extends fi.tuni.mental_run.GameProject implements Screen {
+public class Credits extends fi.tuni.mental_run.GameProject implements Screen, RenderScheduler.OnDemand {
     fi.tuni.mental_run.MenuBackground menuBackground = new MenuBackground();
     fi.tuni.mental_run.Button button = new Button();
 
-    fi.tuni.mental_run.SpecialCollectible specialCollectible = new SpecialCollectible();
+    Collectible specialCollectible = new Collectible(CollectibleKind.SPECIAL);
 
-    Texture creditsHeaderTexture;
+    TextureRegion creditsHeaderTexture;
 
     String creditsList;
 
@@ -55,12 +56,10 @@ public class Credits extends fi.tuni.mental_run.GameProject implements Screen {
         // Camera width is WINDOW_WIDTH, camera height is WINDOW_HEIGHT.
         camera.setToOrtho(false, WINDOW_WIDTH, WINDOW_HEIGHT);
 
-        soundEffectPressButton = Gdx.audio.newSound(Gdx.files.internal("sound_effects/press_button.mp3"));
+        largerTurquoiseBoardTexture = Assets.getTexture("backgrounds/larger_turquoise_board.png");
+        creditsHeaderTexture = Assets.getRegion("headers/credits_header.png");
 
-        largerTurquoiseBoardTexture = new Texture("backgrounds/larger_turquoise_board.png");
-        creditsHeaderTexture = new Texture("headers/credits_header.png");
-
-        roboto = host.generateSmallerFont();
+        roboto = Assets.getFont(Assets.SMALLER_FONT);
 
         creditsList = getLevelText("credits");
     }
@@ -78,36 +77,46 @@ public class Credits extends fi.tuni.mental_run.GameProject implements Screen {
         batch.begin();
         batch.draw(menuBackground.currentFrame, menuBackground.menuBackgroundRectangle.x, menuBackground.menuBackgroundRectangle.y, WINDOW_WIDTH, WINDOW_HEIGHT);
         batch.draw(largerTurquoiseBoardTexture, 4, 3);
-        batch.draw(creditsHeaderTexture, WINDOW_WIDTH / 2 - creditsHeaderTexture.getWidth(), 420, creditsHeaderTexture.getWidth() * 2, creditsHeaderTexture.getHeight() * 2);
+        batch.draw(creditsHeaderTexture, WINDOW_WIDTH / 2 - creditsHeaderTexture.getRegionWidth(), 420, creditsHeaderTexture.getRegionWidth() * 2, creditsHeaderTexture.getRegionHeight() * 2);
         roboto.draw(batch, creditsList, 20, 430);
-        batch.draw(specialCollectible.texture, WINDOW_WIDTH / 2 - specialCollectible.texture.getWidth() * 2, 65, specialCollectible.texture.getWidth() * 4, specialCollectible.texture.getHeight() * 4);
+        batch.draw(specialCollectible.texture, WINDOW_WIDTH / 2 - specialCollectible.texture.getRegionWidth() * 2, 65, specialCollectible.texture.getRegionWidth() * 4, specialCollectible.texture.getRegionHeight() * 4);
         batch.draw(button.smallBackButtonTexture, button.leftSmallBackButtonRectangle.x, button.leftSmallBackButtonRectangle.y, button.leftSmallBackButtonRectangle.width, button.leftSmallBackButtonRectangle.height);
         batch.draw(button.showCollabButtonTexture, button.showCollabButtonRectangle.x, button.showCollabButtonRectangle.y, button.showCollabButtonRectangle.width, button.showCollabButtonRectangle.height);
         batch.end();
     }
 
+    /**
+     * Returns the time until the background animation changes its frame. The screen is rendered on demand.
+     *
+     * @return the time in seconds
+     */
+    @Override
+    public float getTimeToNextChange() {
+        return menuBackground.getTimeToNextFrame(statetime);
+    }
+
     /**
      * Checks for user input for the back button and the show collab button.
      */
     public void checkInput() {
         if (Gdx.input.justTouched()) {
             touchPos = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-            camera.unproject(touchPos);
+            RenderTarget.unproject(camera, touchPos);
 
             if (button.leftSmallBackButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
                 // Takes you to Settings.
-                host.setScreen(new Settings(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, statetime));
+                host.screenManager.showSettings(musicOn, soundOn, statetime);
             }
 
             if (button.showCollabButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
                 // Takes you to Collaborations.
-                host.setScreen(new Collaborations(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, statetime));
+                host.screenManager.show(new Collaborations(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, statetime));
             }
         }
     }
@@ -124,18 +133,6 @@ public class Credits extends fi.tuni.mental_run.GameProject implements Screen {
 
     @Override
     public void dispose() {
-        batch.dispose();
-
-        menuBackgroundMusic.dispose();
-        soundEffectPressButton.dispose();
-
-        menuBackground.menuBackgroundSheet.dispose();
-        largerTurquoiseBoardTexture.dispose();
-        creditsHeaderTexture.dispose();
-        specialCollectible.texture.dispose();
-        button.smallBackButtonTexture.dispose();
-        button.showCollabButtonTexture.dispose();
 
-        roboto.dispose();
     }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package fi.tuni.mental_run;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+
+/**
+ * FreezeFrame keeps the last picture of the run's world while the run is paused or over.
+ * <p>
+ * Nothing moves in the world while the game is paused or the game over board is shown, but drawing it
+ * still renders the visible map, every collectible and the character. Run draws the world once between
+ * begin and end into a FrameBuffer of the same size as the target of the frame, and until release it draws
+ * only that texture under Hud. The buffer is kept for the next pause and disposed with the run.
+ */
+public class FreezeFrame {
+    private FrameBuffer frameBuffer;
+    private boolean captured;
+
+    /**
+     * Tells if the world has been drawn into the buffer since the last release.
+     *
+     * @return true if draw shows the frozen world
+     */
+    public boolean isCaptured() {
+        return captured;
+    }
+
+    /**
+     * Starts drawing the world into the buffer.
+     * The buffer is created or replaced if the size of the frame has changed.
+     */
+    public void begin() {
+        int width = RenderTarget.getWidth();
+        int height = RenderTarget.getHeight();
+        if (frameBuffer == null || frameBuffer.getWidth() != width || frameBuffer.getHeight() != height) {
+            dispose();
+            frameBuffer = new FrameBuffer(Pixmap.Format.RGB888, width, height, false);
+        }
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+    }
+
+    /**
+     * Ends drawing into the buffer. The rest of the frame is drawn into the target of the frame again.
+     */
+    public void end() {
+        frameBuffer.end();
+        RenderTarget.rebind();
+        captured = true;
+    }
+
+    /**
+     * Draws the frozen world over the whole screen.
+     *
+     * @param batch the batch of the run, drawing in the screen coordinates of Hud
+     */
+    public void draw(SpriteBatch batch) {
+        // The buffer is upside down as a texture.
+        Texture texture = frameBuffer.getColorBufferTexture();
+        batch.draw(texture, 0, 0, RenderTarget.WIDTH, RenderTarget.HEIGHT, 0, 0, texture.getWidth(), texture.getHeight(), false, true);
+    }
+
+    /**
+     * Lets the world be drawn again. The next begin draws into the same buffer.
+     */
+    public void release() {
+        captured = false;
+    }
+
+    /**
+     * Disposes the buffer.
+     */
+    public void dispose() {
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+            frameBuffer = null;
+        }
+    }
+}
@@ -4,11 +4,11 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.math.Vector3;
 
 /**
  * GameOver is for implementing the game over view.
@@ -18,17 +18,16 @@ import com.badlogic.gdx.math.Vector3;
  * the skip & retry, skip & back and enter buttons depending on the situation.
  * The player is prompted for a name if they want to submit their high score to the high scores list.
  * GameOver also checks for user input for all of these buttons.
- * GameProject host is forwarded to HighScores, Run1, Run2, Run3 and LevelSelectionMenu.
+ * GameProject host is forwarded to HighScores, Run and LevelSelectionMenu.
  * Extends GameProject.
  *
  * @author Joni Mäkinen
  */
 public class GameOver extends fi.tuni.mental_run.GameProject {
-    Player player = new Player();
     Button button = new Button();
     fi.tuni.mental_run.HighScores highScores = new fi.tuni.mental_run.HighScores();
 
-    Texture crownTexture;
+    TextureRegion crownTexture;
 
     Rectangle crownRectangle;
 
@@ -39,6 +38,18 @@ public class GameOver extends fi.tuni.mental_run.GameProject {
     String name;
     String noConnectionAnnouncement;
 
+    // The player's points and the x offset that centers them on the board, set on the first draw.
+    String myPointsText;
+    int myPointsPosition;
+
+    // The text of the board in its three fonts, laid out on the first draw.
+    BitmapFontCache smallerText;
+    BitmapFontCache text;
+    BitmapFontCache pointsText;
+
+    // The seed of the run, shown so that the run can be played again with the same seed.
+    String seedText;
+
     boolean result;
     boolean resultFetched;
     boolean cameToSubmit;
@@ -53,18 +64,34 @@ public class GameOver extends fi.tuni.mental_run.GameProject {
         // Camera width is WINDOW_WIDTH, camera height is WINDOW_HEIGHT.
         camera.setToOrtho(false, WINDOW_WIDTH, WINDOW_HEIGHT);
 
-        turquoiseBoardTexture = new Texture("backgrounds/turquoise_board.png");
-        crownTexture = new Texture("crown.png");
+        turquoiseBoardTexture = Assets.getRegion("backgrounds/turquoise_board.png");
+        crownTexture = Assets.getRegion("crown.png");
 
         crownRectangle = new Rectangle();
 
-        soundEffectPressButton = Gdx.audio.newSound(Gdx.files.internal("sound_effects/press_button.mp3"));
-        soundEffectMadeIt = Gdx.audio.newSound(Gdx.files.internal("sound_effects/made_it.mp3"));
-        soundEffectDidNotMakeIt = Gdx.audio.newSound(Gdx.files.internal("sound_effects/did_not_make_it.mp3"));
+        // The board is drawn on Hud in screen coordinates, so its buttons are placed once.
+        float buttonPositionY = WINDOW_HEIGHT / 2 - turquoiseBoardTexture.getRegionHeight() / 2 + 5;
+        button.enterButtonRectangle.setPosition(WINDOW_WIDTH - 40 - button.enterButtonTexture.getRegionWidth(), buttonPositionY);
+        button.skipAndRetryButtonRectangle.setPosition(40, buttonPositionY);
+        button.skipAndBackButtonRectangle.setPosition(WINDOW_WIDTH / 2 - button.skipAndBackButtonTexture.getRegionWidth() / 2, buttonPositionY);
+        button.retryButtonRectangle.setPosition(WINDOW_WIDTH - 40 - button.retryButtonTexture.getRegionWidth(), buttonPositionY);
+        button.smallBackButtonRectangle.setPosition(40, buttonPositionY);
 
         gameOverIntro = getLevelText("gameOverIntro");
         gameOverMessage1 = getLevelText("gameOver1");
         gameOverMessage2 = getLevelText("gameOver2");
+
+        smallerRoboto = Assets.getFont(Assets.SMALLER_FONT);
+        noConnectionAnnouncement = getLevelText("noConnection");
+    }
+
+    /**
+     * Sets the seed of the run to be shown on the board.
+     *
+     * @param seed the seed of the run
+     */
+    public void setSeed(long seed) {
+        seedText = getLevelText("seed") + " " + seed;
     }
 
     /**
@@ -73,7 +100,6 @@ public class GameOver extends fi.tuni.mental_run.GameProject {
      * Points the player got are also drawn and the buttons back and retry or skip & retry, skip & back and enter
      * depending on if the player made it to the high scores list or not.
      *
-     * @param playerPosY          is used in determining the y coordinate for the game over display
      * @param levelVariable       is forwarded further to didIMakeIt and checkInput.
      *                            is the integer value (1, 2 or 3) that has the information on which level's high scores
      *                            are about to be inspected.
@@ -81,16 +107,16 @@ public class GameOver extends fi.tuni.mental_run.GameProject {
      *                            and text indicating the game is over
      * @param largerRoboto        the larger font used in drawing of the points
      * @param host                GameProject host
-     * @param batch               batch from Run1, Run2 and Run3. its draw function is called here
+     * @param batch               batch from Run, in the screen coordinates of Hud. its draw function is called here
      * @param menuBackgroundMusic the menu background music
      * @param runBackgroundMusic  the run background music
      * @param musicOn             has info if music is toggled
      * @param soundOn             has info if sounds are toggled
      * @param myPoints            is forwarded further to didIMakeIt and checkInput.
      *                            contains the amount of points the player got. in didIMakeIt, it is compared to the last amount of points
-     *                            on the high scores list. In checkInput it is forwarded further.
+     *                            on the high scores list. In checkInput it is forwarded further as text.
      */
-    public void draw(float playerPosY, int levelVariable, BitmapFont roboto, BitmapFont largerRoboto, GameProject host, SpriteBatch batch, Music menuBackgroundMusic, Music runBackgroundMusic, boolean musicOn, boolean soundOn, String myPoints) {
+    public void draw(int levelVariable, BitmapFont roboto, BitmapFont largerRoboto, GameProject host, SpriteBatch batch, Music menuBackgroundMusic, Music runBackgroundMusic, boolean musicOn, boolean soundOn, int myPoints) {
         this.host = host;
         this.musicOn = musicOn;
         this.soundOn = soundOn;
@@ -98,64 +124,38 @@ public class GameOver extends fi.tuni.mental_run.GameProject {
         this.runBackgroundMusic = runBackgroundMusic;
         batch = host.batch;
 
-        int myPointsPosition = 0;
-
-        if (musicOn) {
-            runBackgroundMusic.stop();
-            menuBackgroundMusic.play();
-            menuBackgroundMusic.setLooping(true);
-        }
-
+        // Everything that does not change while the board is shown is done on the first draw,
+        // so the following frames do not allocate.
         if (!resultFetched) {
-            result = didIMakeIt(levelVariable, Integer.parseInt(myPoints));
+            if (musicOn) {
+                runBackgroundMusic.stop();
+                menuBackgroundMusic.play();
+                menuBackgroundMusic.setLooping(true);
+            }
+
+            result = didIMakeIt(levelVariable, myPoints);
             resultFetched = true;
+
+            myPointsText = String.valueOf(myPoints);
+            myPointsPosition = getPointsPosition(myPoints);
+            layOutText(roboto, largerRoboto);
         }
 
         // Draws the turquoise board.
-        batch.draw(turquoiseBoardTexture, 20, playerPosY - player.STARTING_POSITION_Y + 20);
-
-        // These if statements make sure that the points display is horizontally centered regardless of how many digits it has.
-        if (Integer.parseInt(myPoints) < 10000000) {
-            myPointsPosition = 53;
-        }
-        if (Integer.parseInt(myPoints) < 1000000) {
-            myPointsPosition = 63;
-        }
-        if (Integer.parseInt(myPoints) < 100000) {
-            myPointsPosition = 73;
-        }
-        if (Integer.parseInt(myPoints) < 10000) {
-            myPointsPosition = 83;
-        }
-        if (Integer.parseInt(myPoints) < 1000) {
-            myPointsPosition = 93;
-        }
-        if (Integer.parseInt(myPoints) < 100) {
-            myPointsPosition = 103;
-        }
-        if (Integer.parseInt(myPoints) < 10) {
-            myPointsPosition = 113;
+        batch.draw(turquoiseBoardTexture, 20, 20);
+        // Draws the crown if you made it to the high scores list.
+        if (result) {
+            batch.draw(crownTexture, WINDOW_WIDTH / 2 - crownTexture.getRegionWidth() / 2, WINDOW_HEIGHT / 2 - turquoiseBoardTexture.getRegionHeight() / 2 + turquoiseBoardTexture.getRegionHeight() - 200);
         }
 
+        // Draws the seed, the announcement, the points and the question of the board, laid out on the first draw.
+        smallerText.draw(batch);
+        text.draw(batch);
+        pointsText.draw(batch);
+
         // This is true if you made it to the high scores list.
         if (result) {
-            // Sets position for the enter button after the run has finished.
-            // This is because of the altering excessDistance variable.
-            button.enterButtonRectangle.setPosition(WINDOW_WIDTH - 40 - button.enterButtonTexture.getWidth(), playerPosY - player.STARTING_POSITION_Y + WINDOW_HEIGHT / 2 - turquoiseBoardTexture.getHeight() / 2 + 5);
-            // Sets position for the skip & retry button after the run has finished.
-            // This is because of the altering excessDistance variable.
-            button.skipAndRetryButtonRectangle.setPosition(40, playerPosY - player.STARTING_POSITION_Y + WINDOW_HEIGHT / 2 - turquoiseBoardTexture.getHeight() / 2 + 5);
-            // Sets position for the skip & back button after the run has finished.
-            // This is because of the altering excessDistance variable.
-            button.skipAndBackButtonRectangle.setPosition(WINDOW_WIDTH / 2 - button.skipAndBackButtonTexture.getWidth() / 2, playerPosY - player.STARTING_POSITION_Y + WINDOW_HEIGHT / 2 - turquoiseBoardTexture.getHeight() / 2 + 5);
-
-            checkInput(levelVariable, playerPosY, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, result, myPoints);
-
-            // Draws the crown.
-            batch.draw(crownTexture, WINDOW_WIDTH / 2 - crownTexture.getWidth() / 2, playerPosY - player.STARTING_POSITION_Y + WINDOW_HEIGHT / 2 - turquoiseBoardTexture.getHeight() / 2 + turquoiseBoardTexture.getHeight() - 200);
-            roboto.draw(batch, gameOverIntro, WINDOW_WIDTH / 2 - turquoiseBoardTexture.getWidth() / 2 + 20, playerPosY - player.STARTING_POSITION_Y + WINDOW_HEIGHT / 2 - turquoiseBoardTexture.getHeight() / 2 + turquoiseBoardTexture.getHeight() - 70);
-            largerRoboto.draw(batch, myPoints, WINDOW_WIDTH / 2 - turquoiseBoardTexture.getWidth() / 2 + myPointsPosition, playerPosY - player.STARTING_POSITION_Y + WINDOW_HEIGHT / 2 - turquoiseBoardTexture.getHeight() / 2 + turquoiseBoardTexture.getHeight() - 115);
-            roboto.draw(batch, gameOverMessage1, WINDOW_WIDTH / 2 - turquoiseBoardTexture.getWidth() / 2 + 20, playerPosY - player.STARTING_POSITION_Y + WINDOW_HEIGHT / 2 - turquoiseBoardTexture.getHeight() / 2 + turquoiseBoardTexture.getHeight() - 170);
+            checkInput(levelVariable, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, result, myPointsText);
 
             // Draws the skip & retry, skip & back and enter buttons.
             batch.draw(button.enterButtonTexture, button.enterButtonRectangle.x, button.enterButtonRectangle.y);
@@ -165,31 +165,73 @@ public class GameOver extends fi.tuni.mental_run.GameProject {
 
         // This is true if you didn't make it to the high scores list.
         if (!result) {
-            // Sets position for the retry button after the run has finished.
-            // This is because of the altering excessDistance variable.
-            button.retryButtonRectangle.setPosition(WINDOW_WIDTH - 40 - button.retryButtonTexture.getWidth(), playerPosY - player.STARTING_POSITION_Y + WINDOW_HEIGHT / 2 - turquoiseBoardTexture.getHeight() / 2 + 5);
-            // Sets position for the small back button after the run has finished.
-            // This is because of the altering excessDistance variable.
-            button.smallBackButtonRectangle.setPosition(40, playerPosY - player.STARTING_POSITION_Y + WINDOW_HEIGHT / 2 - turquoiseBoardTexture.getHeight() / 2 + 5);
+            checkInput(levelVariable, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, result, myPointsText);
 
-            checkInput(levelVariable, playerPosY, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, result, myPoints);
+            // Draws the retry and back buttons.
+            batch.draw(button.retryButtonTexture, button.retryButtonRectangle.x, button.retryButtonRectangle.y);
+            batch.draw(button.smallBackButtonTexture, button.smallBackButtonRectangle.x, button.smallBackButtonRectangle.y);
+        }
+    }
 
-            roboto.draw(batch, gameOverIntro, WINDOW_WIDTH / 2 - turquoiseBoardTexture.getWidth() / 2 + 20, playerPosY - player.STARTING_POSITION_Y + WINDOW_HEIGHT / 2 - turquoiseBoardTexture.getHeight() / 2 + turquoiseBoardTexture.getHeight() - 70);
-            largerRoboto.draw(batch, myPoints, WINDOW_WIDTH / 2 - turquoiseBoardTexture.getWidth() / 2 + myPointsPosition, playerPosY - player.STARTING_POSITION_Y + WINDOW_HEIGHT / 2 - turquoiseBoardTexture.getHeight() / 2 + turquoiseBoardTexture.getHeight() - 115);
-            roboto.draw(batch, gameOverMessage2, WINDOW_WIDTH / 2 - turquoiseBoardTexture.getWidth() / 2 + 20, playerPosY - player.STARTING_POSITION_Y + WINDOW_HEIGHT / 2 - turquoiseBoardTexture.getHeight() / 2 + turquoiseBoardTexture.getHeight() - 170);
+    /**
+     * Lays out the text of the board, which does not change while the board is shown, into font caches.
+     * <p>
+     * The seed of the run is drawn at the top of the board and below it the game over announcement,
+     * the points and the question about what the player wants to do next. The no internet connection
+     * announcement is drawn at the bottom if the high scores could not be fetched.
+     *
+     * @param roboto       font used in drawing of the announcement and the question
+     * @param largerRoboto the larger font used in drawing of the points
+     */
+    void layOutText(BitmapFont roboto, BitmapFont largerRoboto) {
+        float left = WINDOW_WIDTH / 2 - turquoiseBoardTexture.getRegionWidth() / 2;
+        float top = WINDOW_HEIGHT / 2 - turquoiseBoardTexture.getRegionHeight() / 2 + turquoiseBoardTexture.getRegionHeight();
 
-            // Draws the no internet connection announcement.
-            if (noConnection) {
-                smallerRoboto = host.generateSmallerFont();
-                noConnectionAnnouncement = getLevelText("noConnection");
+        smallerText = new BitmapFontCache(smallerRoboto);
+        text = new BitmapFontCache(roboto);
+        pointsText = new BitmapFontCache(largerRoboto);
 
-                smallerRoboto.draw(batch, noConnectionAnnouncement, 40, playerPosY - player.STARTING_POSITION_Y + WINDOW_HEIGHT / 2 - turquoiseBoardTexture.getHeight() / 2 + turquoiseBoardTexture.getHeight() - 300);
-            }
+        if (seedText != null) {
+            smallerText.addText(seedText, left + 20, top - 30);
+        }
+        text.addText(gameOverIntro, left + 20, top - 70);
+        pointsText.addText(myPointsText, left + myPointsPosition, top - 115);
+        text.addText(result ? gameOverMessage1 : gameOverMessage2, left + 20, top - 170);
+        if (!result && noConnection) {
+            smallerText.addText(noConnectionAnnouncement, 40, top - 300);
+        }
+    }
 
-            // Draws the retry and back buttons.
-            batch.draw(button.retryButtonTexture, button.retryButtonRectangle.x, button.retryButtonRectangle.y);
-            batch.draw(button.smallBackButtonTexture, button.smallBackButtonRectangle.x, button.smallBackButtonRectangle.y);
+    /**
+     * Returns the x offset on the board that horizontally centers the points regardless of how many digits they have.
+     *
+     * @param myPoints the amount of the player's points
+     * @return the offset from the left edge of the board
+     */
+    int getPointsPosition(int myPoints) {
+        int myPointsPosition = 0;
+        if (myPoints < 10000000) {
+            myPointsPosition = 53;
         }
+        if (myPoints < 1000000) {
+            myPointsPosition = 63;
+        }
+        if (myPoints < 100000) {
+            myPointsPosition = 73;
+        }
+        if (myPoints < 10000) {
+            myPointsPosition = 83;
+        }
+        if (myPoints < 1000) {
+            myPointsPosition = 93;
+        }
+        if (myPoints < 100) {
+            myPointsPosition = 103;
+        }
+        if (myPoints < 10) {
+            myPointsPosition = 113;
+        }
+        return myPointsPosition;
     }
 
     /**
@@ -199,7 +241,6 @@ public class GameOver extends fi.tuni.mental_run.GameProject {
      *
      * @param levelVariable       is forwarded further to HighScores where it is used to determine
      *                            which level's high scores to display
-     * @param playerPosY          is used when determining the y coordinate for the buttons to be drawn
      * @param musicOn             has info if music is toggled
      * @param soundOn             has info if sounds are toggled
      * @param menuBackgroundMusic the menu background music
@@ -207,7 +248,7 @@ public class GameOver extends fi.tuni.mental_run.GameProject {
      * @param result              tells the function which buttons' input to check
      * @param myPointsString      the amount of the player's points
      */
-    public void checkInput(int levelVariable, float playerPosY, boolean musicOn, boolean soundOn, Music menuBackgroundMusic, Music runBackgroundMusic, boolean result, String myPointsString) {
+    public void checkInput(int levelVariable, boolean musicOn, boolean soundOn, Music menuBackgroundMusic, Music runBackgroundMusic, boolean result, String myPointsString) {
         this.musicOn = musicOn;
         this.soundOn = soundOn;
         this.menuBackgroundMusic = menuBackgroundMusic;
@@ -219,22 +260,22 @@ public class GameOver extends fi.tuni.mental_run.GameProject {
         if (name != null) {
             highScores.createNewScore(levelVariable, name, myPointsString);
             // Takes you to HighScores.
-            host.setScreen(new fi.tuni.mental_run.HighScores(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, levelVariable, cameToSubmit, myPointsString));
+            host.screenManager.show(new fi.tuni.mental_run.HighScores(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, levelVariable, cameToSubmit, myPointsString));
         }
 
         if (Gdx.input.justTouched()) {
-            touchPos = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-            camera.unproject(touchPos);
+            touchPos.set(Gdx.input.getX(), Gdx.input.getY(), 0);
+            RenderTarget.unproject(camera, touchPos);
 
             // This is true if you made it to the high scores list.
             if (result) {
                 // This is true if the enter button is pressed.
-                if (button.enterButtonRectangle.contains(touchPos.x, touchPos.y + playerPosY)) {
+                if (button.enterButtonRectangle.contains(touchPos.x, touchPos.y)) {
                     // This variable is used for the ok button mechanics in HighScores.
                     // Makes the screen set as MainMenu rather than LevelSelectionMenu when the ok button is pressed in HighScores.
                     cameToSubmit = true;
                     if (soundOn) {
-                        soundEffectPressButton.play();
+                        SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                     }
 
                     // This anonymous inner class implementation prompts the player for their name
@@ -266,60 +307,42 @@ public class GameOver extends fi.tuni.mental_run.GameProject {
 
                 }
                 // This is true if the skip & retry button is pressed.
-                if (button.skipAndRetryButtonRectangle.contains(touchPos.x, touchPos.y + playerPosY)) {
+                if (button.skipAndRetryButtonRectangle.contains(touchPos.x, touchPos.y)) {
                     if (soundOn) {
-                        soundEffectPressButton.play();
-                    }
-                    if (levelVariable == 1) {
-                        // Takes you to Run1.
-                        host.setScreen(new fi.tuni.mental_run.Run1(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic));
-                    }
-                    if (levelVariable == 2) {
-                        // Takes you to Run2.
-                        host.setScreen(new Run2(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic));
-                    }
-                    if (levelVariable == 3) {
-                        // Takes you to Run3.
-                        host.setScreen(new fi.tuni.mental_run.Run3(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic));
+                        SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                     }
+                    // Takes you to the same level's Run.
+                    Level level = Level.get(levelVariable);
+                    host.screenManager.show(new Run(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, level, new LevelAssets(level.mapFileName).finishLoading()));
                 }
                 // This is true if the skip & back button is pressed.
-                if (button.skipAndBackButtonRectangle.contains(touchPos.x, touchPos.y + playerPosY)) {
+                if (button.skipAndBackButtonRectangle.contains(touchPos.x, touchPos.y)) {
                     if (soundOn) {
-                        soundEffectPressButton.play();
+                        SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                     }
                     // Takes you to LevelSelectionMenu.
-                    host.setScreen(new LevelSelectionMenu(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic));
+                    host.screenManager.showLevelSelectionMenu(musicOn, soundOn, 0);
                 }
             }
 
             // This is true if you didn't make it to the high scores list.
             if (!result) {
                 // This is true if the retry button is pressed.
-                if (button.retryButtonRectangle.contains(touchPos.x, touchPos.y + playerPosY)) {
+                if (button.retryButtonRectangle.contains(touchPos.x, touchPos.y)) {
                     if (soundOn) {
-                        soundEffectPressButton.play();
-                    }
-                    if (levelVariable == 1) {
-                        // Takes you to Run1.
-                        host.setScreen(new Run1(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic));
-                    }
-                    if (levelVariable == 2) {
-                        // Takes you to Run2.
-                        host.setScreen(new Run2(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic));
-                    }
-                    if (levelVariable == 3) {
-                        // Takes you to Run3.
-                        host.setScreen(new Run3(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic));
+                        SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                     }
+                    // Takes you to the same level's Run.
+                    Level level = Level.get(levelVariable);
+                    host.screenManager.show(new Run(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, level, new LevelAssets(level.mapFileName).finishLoading()));
                 }
                 // This is true if the small back button is pressed.
-                if (button.smallBackButtonRectangle.contains(touchPos.x, touchPos.y + playerPosY)) {
+                if (button.smallBackButtonRectangle.contains(touchPos.x, touchPos.y)) {
                     if (soundOn) {
-                        soundEffectPressButton.play();
+                        SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                     }
                     // Takes you to LevelSelectionMenu.
-                    host.setScreen(new LevelSelectionMenu(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic));
+                    host.screenManager.showLevelSelectionMenu(musicOn, soundOn, 0);
                 }
             }
         }
@@ -340,14 +363,12 @@ public class GameOver extends fi.tuni.mental_run.GameProject {
             // Sets boolean result as true or false, depending on if you made it to the high scores list or not.
             if (myPoints > checkHighScores.highScorePointsList.get(9)) {
                 if (soundOn) {
-                    soundEffectMadeIt.play();
-                    soundEffectMadeIt.dispose();
+                    SoundManager.play(SoundManager.Effect.MADE_IT);
                 }
                 result = true;
             } else {
                 if (soundOn) {
-                    soundEffectDidNotMakeIt.play();
-                    soundEffectDidNotMakeIt.dispose();
+                    SoundManager.play(SoundManager.Effect.DID_NOT_MAKE_IT);
                 }
                 result = false;
             }
@@ -3,24 +3,21 @@ package fi.tuni.mental_run;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
-import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
 import com.badlogic.gdx.math.Vector3;
-import com.badlogic.gdx.utils.I18NBundle;
 
 import java.util.Locale;
 
 /**
  * This is the main class of the game Mental Run.
  * <p>
- * The generating of fonts used in the project is implemented here.
+ * The fonts used in the project are shared through Assets and the sound effects are played through SoundManager.
+ * The resolution the game is drawn in is chosen by RenderTarget.
  * GameProject's object is forwarded to class MainMenu and later to other classes.
  * Every class in this project extend GameProject.
  *
@@ -32,26 +29,19 @@ public class GameProject extends Game {
 
     SpriteBatch batch;
 
+    ScreenManager screenManager;
+
     OrthographicCamera camera;
 
     Music menuBackgroundMusic;
     Music runBackgroundMusic;
 
-    Sound soundEffectCountdown321;
-    Sound soundEffectCountdownGo;
-    Sound soundEffectPressButton;
-    Sound soundEffectSpecialCollectible;
-    Sound soundEffectCollectiblePositive;
-    Sound soundEffectCollectibleNegative;
-    Sound soundEffectMadeIt;
-    Sound soundEffectDidNotMakeIt;
-
-    Texture turquoiseBoardTexture;
+    TextureRegion turquoiseBoardTexture;
     Texture widerTurquoiseBoardTexture;
     Texture largerTurquoiseBoardTexture;
 
     TiledMap gameProjectMap;
-    TiledMapRenderer tiledMapRenderer;
+    ChunkedMapRenderer tiledMapRenderer;
 
     BitmapFont roboto;
     BitmapFont smallerRoboto;
@@ -72,13 +62,6 @@ public class GameProject extends Game {
     final int LEFT_SIDE_BORDER = TILE_WIDTH * 2;
     final int RIGHT_SIDE_BORDER = TILE_WIDTH * 7;
 
-    final int LOOP_START_RUN1 = TILE_HEIGHT * 400;
-    final int LOOP_AMOUNT_RUN1 = TILE_HEIGHT * 119;
-    final int LOOP_START_RUN2 = 0;
-    final int LOOP_AMOUNT_RUN2 = TILE_HEIGHT * 170;
-    final int LOOP_START_RUN3 = TILE_HEIGHT * 360;
-    final int LOOP_AMOUNT_RUN3 = TILE_HEIGHT * 159;
-
     Vector3 touchPos = new Vector3();
 
     static int levelVariable;
@@ -93,6 +76,12 @@ public class GameProject extends Game {
 
     float statetime;
 
+    // The seed given when the game was launched, used by every run. 0 gives every run a new seed.
+    long launchSeed;
+
+    // A run recording given when the game was launched, played instead of showing MainMenu. Null plays normally.
+    String replayFile;
+
     @Override
     public void create() {
         batch = new SpriteBatch();
@@ -107,119 +96,111 @@ public class GameProject extends Game {
         menuBackgroundMusic.setLooping(true);
         runBackgroundMusic = Gdx.audio.newMusic(Gdx.files.internal("music/run_background_music.mp3"));
 
+        SoundManager.load();
+        RenderTarget.load();
+
         musicOn = true;
         soundOn = true;
 
         // Sets MainMenu as the screen. MainMenu gets GameProject object as an attribute.
-        setScreen(new MainMenu(this, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic));
+        screenManager = new ScreenManager(this);
+        if (replayFile != null) {
+            RunRecording replay = RunRecording.load(Gdx.files.absolute(replayFile));
+            Level level = replay.getLevel();
+            screenManager.show(new Run(this, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, level, new LevelAssets(level.mapFileName).finishLoading(), replay));
+        } else {
+            screenManager.showMainMenu(musicOn, soundOn, 0);
+        }
     }
 
     @Override
     public void render() {
         batch.setProjectionMatrix(camera.combined);
-        // Uses renders of the following views.
+        // Plays the sound effects queued during the previous frame, unless the audio worker does it.
+        SoundManager.update();
+        // Uses renders of the following views, drawn into the low resolution buffer if the quality uses one.
+        RenderTarget.begin();
         super.render();
+        RenderTarget.end(batch);
+        // Disposes the screens that were left during the render.
+        screenManager.disposeScreens();
+        // Renders the next frame continuously or when the screen changes.
+        RenderScheduler.frameRendered(getScreen());
     }
 
-    /**
-     * Creates the most widely used black font.
-     *
-     * @return returns generator.generateFont(parameter), which is the black, size 18 font
-     */
-    public BitmapFont generateFont() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("font/Roboto.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 18;
-        parameter.color = Color.BLACK;
-        parameter.borderColor = Color.WHITE;
-        parameter.borderWidth = 1;
-        return generator.generateFont(parameter);
+    @Override
+    public void resize(int width, int height) {
+        super.resize(width, height);
+        RenderTarget.resize(width, height);
     }
 
     /**
-     * Creates the smaller black font.
+     * All translatable texts are retrieved through this method
+     * <p>
+     * The texts are read once into the shared table of Texts.
      *
-     * @return returns generator.generateFont(parameter), which is the smaller black, size 12 font
+     * @param key String that corresponds with a translation
+     * @return returns the string of text that corresponds with the given key
      */
-    public BitmapFont generateSmallerFont() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("font/Roboto.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 12;
-        parameter.color = Color.BLACK;
-        parameter.borderColor = Color.WHITE;
-        parameter.borderWidth = 1;
-        return generator.generateFont(parameter);
+    public String getLevelText(String key) {
+        return Texts.get(key);
     }
 
     /**
-     * Creates the larger black font.
+     * Sets the seed of every run, so that the runs can be reproduced. Called by the launchers before the game starts.
      *
-     * @return returns generator.generateFont(parameter), which is the larger black, size 36 font
+     * @param seed the seed, or 0 for a new seed for every run
      */
-    public BitmapFont generateLargerFont() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("font/Roboto.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 36;
-        parameter.color = Color.BLACK;
-        parameter.borderColor = Color.WHITE;
-        parameter.borderWidth = 1;
-        return generator.generateFont(parameter);
+    public void setLaunchSeed(long seed) {
+        launchSeed = seed;
     }
 
     /**
-     * Creates the yellow font.
-     * <p>
-     * The font is used to highlight the newly submitted high score on high scores board.
+     * Sets a run recording to be played when the game starts. Called by the launchers before the game starts.
      *
-     * @return returns generator.generateFont(parameter), which is yellow, size 18 font
+     * @param file the path of the recording, or null to start from MainMenu
      */
-    public BitmapFont generateYellowFont() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("font/Roboto.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 18;
-        parameter.color = Color.YELLOW;
-        parameter.borderColor = Color.BLACK;
-        parameter.borderWidth = 1;
-        return generator.generateFont(parameter);
+    public void setReplayFile(String file) {
+        replayFile = file;
     }
 
     /**
-     * All translatable texts are retrieved through this method
+     * Returns the seed for a new run.
      *
-     * @param key String that corresponds with a translation
-     * @return returns the string of text that corresponds with the given key
+     * @return the launch seed if one was given, otherwise a new seed
      */
-    public String getLevelText(String key) {
-
-        Locale locale = Locale.getDefault();
-
-        I18NBundle langBundle =
-                I18NBundle.createBundle(Gdx.files.internal("LangBundle"), locale);
-
-        return langBundle.get(key);
+    long nextRunSeed() {
+        return launchSeed != 0 ? launchSeed : RunRandom.newSeed();
     }
 
     public boolean isFinnish() {
         return locale.toString().equals("fi_FI");
     }
 
+    /**
+     * Resets a menu screen that ScreenManager reuses.
+     *
+     * @param musicOn   has info if music is toggled
+     * @param soundOn   has info if sounds are toggled
+     * @param statetime makes the screen draw the correct current frame of the animation
+     */
+    public void reset(boolean musicOn, boolean soundOn, float statetime) {
+        this.musicOn = musicOn;
+        this.soundOn = soundOn;
+        this.statetime = statetime;
+    }
+
     @Override
     public void dispose() {
+        screenManager.dispose();
+
         batch.dispose();
 
         menuBackgroundMusic.dispose();
         runBackgroundMusic.dispose();
 
-        soundEffectMadeIt.dispose();
-        soundEffectDidNotMakeIt.dispose();
-
-        turquoiseBoardTexture.dispose();
-        widerTurquoiseBoardTexture.dispose();
-        largerTurquoiseBoardTexture.dispose();
-
-        roboto.dispose();
-        yellowRoboto.dispose();
-        largerRoboto.dispose();
-        smallerRoboto.dispose();
+        SoundManager.dispose();
+        RenderTarget.dispose();
+        Assets.dispose();
     }
 }
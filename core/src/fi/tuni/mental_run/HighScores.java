@@ -6,6 +6,8 @@ import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector3;
 
 import java.util.ArrayList;
@@ -17,6 +19,7 @@ import java.util.List;
  * HighScores draws the background animation, a turquoise high scores board with a header
  * which tells which level's high scores are currently viewed, a list of the best ten scores for the level
  * and an ok button.
+ * The list is laid out into font caches when the scores arrive, so the frames only draw the cached text.
  * HighScores also checks for user input for the ok button.
  * Ok button takes you back HighScoresSelectionMenu.
  * GameProject host is forwarded to HighScoresSelectionMenu.
@@ -29,9 +32,9 @@ public class HighScores extends fi.tuni.mental_run.GameProject implements HighSc
     MenuBackground menuBackground = new MenuBackground();
     Button button = new Button();
 
-    Texture level1HighScoresHeaderTexture;
-    Texture level2HighScoresHeaderTexture;
-    Texture level3HighScoresHeaderTexture;
+    TextureRegion level1HighScoresHeaderTexture;
+    TextureRegion level2HighScoresHeaderTexture;
+    TextureRegion level3HighScoresHeaderTexture;
 
     String myPointsString;
     String connectionError;
@@ -42,6 +45,16 @@ public class HighScores extends fi.tuni.mental_run.GameProject implements HighSc
     int levelVariable;
     int myStanding = 10;
 
+    // The standings in front of the names.
+    static final String[] STANDINGS = {"1.   ", "2.   ", "3.   ", "4.   ", "5.   ", "6.   ", "7.   ", "8.   ", "9.   ", "10. "};
+
+    // The laid out text of the high scores board, drawn in roboto and in yellowRoboto.
+    BitmapFontCache namesAndScores;
+    BitmapFontCache myNameAndScore;
+
+    // The number of entries in the lists when the text was laid out, -1 before it has been laid out.
+    int laidOutEntries = -1;
+
     /**
      * Constructs the high scores views.
      * <p>
@@ -73,15 +86,15 @@ public class HighScores extends fi.tuni.mental_run.GameProject implements HighSc
         HighScoreServer.readConfig("highscore.config");
         HighScoreServer.fetchHighScores(this, levelVariable);
 
-        soundEffectPressButton = Gdx.audio.newSound(Gdx.files.internal("sound_effects/press_button.mp3"));
-
-        widerTurquoiseBoardTexture = new Texture("backgrounds/wider_turquoise_board.png");
-        level1HighScoresHeaderTexture = new Texture("headers/level_1_high_score_header.png");
-        level2HighScoresHeaderTexture = new Texture("headers/level_2_high_score_header.png");
-        level3HighScoresHeaderTexture = new Texture("headers/level_3_high_score_header.png");
+        widerTurquoiseBoardTexture = Assets.getTexture("backgrounds/wider_turquoise_board.png");
+        level1HighScoresHeaderTexture = Assets.getRegion("headers/level_1_high_score_header.png");
+        level2HighScoresHeaderTexture = Assets.getRegion("headers/level_2_high_score_header.png");
+        level3HighScoresHeaderTexture = Assets.getRegion("headers/level_3_high_score_header.png");
 
-        roboto = host.generateFont();
-        yellowRoboto = host.generateYellowFont();
+        roboto = Assets.getFont(Assets.FONT);
+        yellowRoboto = Assets.getFont(Assets.YELLOW_FONT);
+        namesAndScores = new BitmapFontCache(roboto);
+        myNameAndScore = new BitmapFontCache(yellowRoboto);
 
         connectionError = getLevelText("connectionError");
     }
@@ -119,15 +132,15 @@ public class HighScores extends fi.tuni.mental_run.GameProject implements HighSc
         HighScoreServer.readConfig("highscore.config");
         HighScoreServer.fetchHighScores(this, levelVariable);
 
-        widerTurquoiseBoardTexture = new Texture("backgrounds/wider_turquoise_board.png");
-        level1HighScoresHeaderTexture = new Texture("headers/level_1_high_score_header.png");
-        level2HighScoresHeaderTexture = new Texture("headers/level_2_high_score_header.png");
-        level3HighScoresHeaderTexture = new Texture("headers/level_3_high_score_header.png");
+        widerTurquoiseBoardTexture = Assets.getTexture("backgrounds/wider_turquoise_board.png");
+        level1HighScoresHeaderTexture = Assets.getRegion("headers/level_1_high_score_header.png");
+        level2HighScoresHeaderTexture = Assets.getRegion("headers/level_2_high_score_header.png");
+        level3HighScoresHeaderTexture = Assets.getRegion("headers/level_3_high_score_header.png");
 
-        soundEffectPressButton = Gdx.audio.newSound(Gdx.files.internal("sound_effects/press_button.mp3"));
-
-        roboto = host.generateFont();
-        yellowRoboto = host.generateYellowFont();
+        roboto = Assets.getFont(Assets.FONT);
+        yellowRoboto = Assets.getFont(Assets.YELLOW_FONT);
+        namesAndScores = new BitmapFontCache(roboto);
+        myNameAndScore = new BitmapFontCache(yellowRoboto);
 
         connectionError = getLevelText("connectionError");
     }
@@ -224,136 +237,47 @@ public class HighScores extends fi.tuni.mental_run.GameProject implements HighSc
         batch.draw(menuBackground.currentFrame, menuBackground.menuBackgroundRectangle.x, menuBackground.menuBackgroundRectangle.y, WINDOW_WIDTH, WINDOW_HEIGHT);
         batch.draw(widerTurquoiseBoardTexture, 4, 40);
         if (levelVariable == 1) {
-            batch.draw(level1HighScoresHeaderTexture, WINDOW_WIDTH / 2 - level1HighScoresHeaderTexture.getWidth(), 375, level1HighScoresHeaderTexture.getWidth() * 2, level1HighScoresHeaderTexture.getHeight() * 2);
+            batch.draw(level1HighScoresHeaderTexture, WINDOW_WIDTH / 2 - level1HighScoresHeaderTexture.getRegionWidth(), 375, level1HighScoresHeaderTexture.getRegionWidth() * 2, level1HighScoresHeaderTexture.getRegionHeight() * 2);
         }
         if (levelVariable == 2) {
-            batch.draw(level2HighScoresHeaderTexture, WINDOW_WIDTH / 2 - level2HighScoresHeaderTexture.getWidth(), 375, level1HighScoresHeaderTexture.getWidth() * 2, level1HighScoresHeaderTexture.getHeight() * 2);
+            batch.draw(level2HighScoresHeaderTexture, WINDOW_WIDTH / 2 - level2HighScoresHeaderTexture.getRegionWidth(), 375, level1HighScoresHeaderTexture.getRegionWidth() * 2, level1HighScoresHeaderTexture.getRegionHeight() * 2);
         }
         if (levelVariable == 3) {
-            batch.draw(level3HighScoresHeaderTexture, WINDOW_WIDTH / 2 - level3HighScoresHeaderTexture.getWidth(), 375, level1HighScoresHeaderTexture.getWidth() * 2, level1HighScoresHeaderTexture.getHeight() * 2);
+            batch.draw(level3HighScoresHeaderTexture, WINDOW_WIDTH / 2 - level3HighScoresHeaderTexture.getRegionWidth(), 375, level1HighScoresHeaderTexture.getRegionWidth() * 2, level1HighScoresHeaderTexture.getRegionHeight() * 2);
         }
 
-        // Makes sure that there is an internet connection.
-        if (highScoreNameList.size() != 0) {
-            drawNamesAndScores();
-        } else {
-            roboto.draw(batch, connectionError, 90, 350);
+        // The names and scores are laid out again only when the lists have changed.
+        if (laidOutEntries != highScoreNameList.size()) {
+            layOutNamesAndScores();
         }
+        namesAndScores.draw(batch);
+        myNameAndScore.draw(batch);
 
         batch.draw(button.smallOkButtonTexture, button.smallOkButtonRectangle.x, button.smallOkButtonRectangle.y, button.smallOkButtonRectangle.width, button.smallOkButtonRectangle.height);
         batch.end();
     }
 
     /**
-     * Draws names and scores on high scores board.
+     * Lays out the names and scores on the high scores board, or the connection error if there are none.
      * <p>
-     * Newly added standing is highlighted in yellow.
+     * The text is laid out into namesAndScores and the newly added standing, highlighted in yellow,
+     * into myNameAndScore. render draws the caches as they are until the lists change.
      */
-    private void drawNamesAndScores() {
-        // Draws the names on the high score list.
-        // The standing added just now is drawn in yellow.
-        if (myStanding == 0) {
-            yellowRoboto.draw(batch, "1.   " + highScoreNameList.get(0), 15, 390);
-        } else {
-            roboto.draw(batch, "1.   " + highScoreNameList.get(0), 15, 390);
-        }
-        if (myStanding == 1) {
-            yellowRoboto.draw(batch, "2.   " + highScoreNameList.get(1), 15, 360);
-        } else {
-            roboto.draw(batch, "2.   " + highScoreNameList.get(1), 15, 360);
-        }
-        if (myStanding == 2) {
-            yellowRoboto.draw(batch, "3.   " + highScoreNameList.get(2), 15, 330);
-        } else {
-            roboto.draw(batch, "3.   " + highScoreNameList.get(2), 15, 330);
-        }
-        if (myStanding == 3) {
-            yellowRoboto.draw(batch, "4.   " + highScoreNameList.get(3), 15, 300);
-        } else {
-            roboto.draw(batch, "4.   " + highScoreNameList.get(3), 15, 300);
-        }
-        if (myStanding == 4) {
-            yellowRoboto.draw(batch, "5.   " + highScoreNameList.get(4), 15, 270);
-        } else {
-            roboto.draw(batch, "5.   " + highScoreNameList.get(4), 15, 270);
-        }
-        if (myStanding == 5) {
-            yellowRoboto.draw(batch, "6.   " + highScoreNameList.get(5), 15, 240);
-        } else {
-            roboto.draw(batch, "6.   " + highScoreNameList.get(5), 15, 240);
-        }
-        if (myStanding == 6) {
-            yellowRoboto.draw(batch, "7.   " + highScoreNameList.get(6), 15, 210);
-        } else {
-            roboto.draw(batch, "7.   " + highScoreNameList.get(6), 15, 210);
-        }
-        if (myStanding == 7) {
-            yellowRoboto.draw(batch, "8.   " + highScoreNameList.get(7), 15, 180);
-        } else {
-            roboto.draw(batch, "8.   " + highScoreNameList.get(7), 15, 180);
-        }
-        if (myStanding == 8) {
-            yellowRoboto.draw(batch, "9.   " + highScoreNameList.get(8), 15, 150);
-        } else {
-            roboto.draw(batch, "9.   " + highScoreNameList.get(8), 15, 150);
-        }
-        if (myStanding == 9) {
-            yellowRoboto.draw(batch, "10. " + highScoreNameList.get(9), 15, 120);
-        } else {
-            roboto.draw(batch, "10. " + highScoreNameList.get(9), 15, 120);
-        }
+    private void layOutNamesAndScores() {
+        namesAndScores.clear();
+        myNameAndScore.clear();
+        laidOutEntries = highScoreNameList.size();
 
-        // Draws the points on the high scores list.
-        // The standing added just now is drawn in yellow.
-        if (myStanding == 0) {
-            yellowRoboto.draw(batch, highScorePointsList.get(0).toString(), 200, 390);
-        } else {
-            roboto.draw(batch, highScorePointsList.get(0).toString(), 200, 390);
-        }
-        if (myStanding == 1) {
-            yellowRoboto.draw(batch, highScorePointsList.get(1).toString(), 200, 360);
-        } else {
-            roboto.draw(batch, highScorePointsList.get(1).toString(), 200, 360);
-        }
-        if (myStanding == 2) {
-            yellowRoboto.draw(batch, highScorePointsList.get(2).toString(), 200, 330);
-        } else {
-            roboto.draw(batch, highScorePointsList.get(2).toString(), 200, 330);
-        }
-        if (myStanding == 3) {
-            yellowRoboto.draw(batch, highScorePointsList.get(3).toString(), 200, 300);
-        } else {
-            roboto.draw(batch, highScorePointsList.get(3).toString(), 200, 300);
-        }
-        if (myStanding == 4) {
-            yellowRoboto.draw(batch, highScorePointsList.get(4).toString(), 200, 270);
-        } else {
-            roboto.draw(batch, highScorePointsList.get(4).toString(), 200, 270);
-        }
-        if (myStanding == 5) {
-            yellowRoboto.draw(batch, highScorePointsList.get(5).toString(), 200, 240);
-        } else {
-            roboto.draw(batch, highScorePointsList.get(5).toString(), 200, 240);
-        }
-        if (myStanding == 6) {
-            yellowRoboto.draw(batch, highScorePointsList.get(6).toString(), 200, 210);
-        } else {
-            roboto.draw(batch, highScorePointsList.get(6).toString(), 200, 210);
-        }
-        if (myStanding == 7) {
-            yellowRoboto.draw(batch, highScorePointsList.get(7).toString(), 200, 180);
-        } else {
-            roboto.draw(batch, highScorePointsList.get(7).toString(), 200, 180);
-        }
-        if (myStanding == 8) {
-            yellowRoboto.draw(batch, highScorePointsList.get(8).toString(), 200, 150);
-        } else {
-            roboto.draw(batch, highScorePointsList.get(8).toString(), 200, 150);
+        // Makes sure that there is an internet connection.
+        if (laidOutEntries == 0) {
+            namesAndScores.addText(connectionError, 90, 350);
+            return;
         }
-        if (myStanding == 9) {
-            yellowRoboto.draw(batch, highScorePointsList.get(9).toString(), 200, 120);
-        } else {
-            roboto.draw(batch, highScorePointsList.get(9).toString(), 200, 120);
+
+        for (int i = 0; i < STANDINGS.length && i < laidOutEntries; i++) {
+            BitmapFontCache cache = i == myStanding ? myNameAndScore : namesAndScores;
+            cache.addText(STANDINGS[i] + highScoreNameList.get(i), 15, 390 - 30 * i);
+            cache.addText(Integer.toString(highScorePointsList.get(i)), 200, 390 - 30 * i);
         }
     }
 
@@ -370,25 +294,25 @@ public class HighScores extends fi.tuni.mental_run.GameProject implements HighSc
     public void checkInput(boolean cameToSubmit) {
         if (Gdx.input.justTouched()) {
             touchPos = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-            camera.unproject(touchPos);
+            RenderTarget.unproject(camera, touchPos);
 
             // Is true if the player has just submitted their high score and pressed the ok button.
             if (button.okButtonRectangle.contains(touchPos.x, touchPos.y) && cameToSubmit) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
                 // Takes you to MainMenu.
-                host.setScreen(new MainMenu(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, statetime));
+                host.screenManager.showMainMenu(musicOn, soundOn, statetime);
             }
 
             if (!cameToSubmit) {
                 // If statement is true if the player is only viewing the high scores and not submitting a score.
                 if (button.okButtonRectangle.contains(touchPos.x, touchPos.y)) {
                     if (soundOn) {
-                        soundEffectPressButton.play();
+                        SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                     }
                     // Takes you to HighScoresSelectionMenu.
-                    host.setScreen(new HighScoresSelectionMenu(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, statetime));
+                    host.screenManager.showHighScoresSelectionMenu(musicOn, soundOn, statetime);
                 }
             }
         }
@@ -427,20 +351,6 @@ public class HighScores extends fi.tuni.mental_run.GameProject implements HighSc
 
     @Override
     public void dispose() {
-        batch.dispose();
-
-        menuBackgroundMusic.dispose();
-        soundEffectPressButton.dispose();
-
-        menuBackground.menuBackgroundSheet.dispose();
-        turquoiseBoardTexture.dispose();
-        widerTurquoiseBoardTexture.dispose();
-        level1HighScoresHeaderTexture.dispose();
-        level2HighScoresHeaderTexture.dispose();
-        level3HighScoresHeaderTexture.dispose();
-        button.smallOkButtonTexture.dispose();
 
-        roboto.dispose();
-        yellowRoboto.dispose();
     }
 }
\ No newline at end of file
@@ -18,16 +18,18 @@ import com.badlogic.gdx.math.Vector3;
  * Back button takes you back to MainMenu.
  * GameProject host is forwarded to both of those classes.
  * Extends GameProject.
- * Implements interface Screen.
+ * Implements interfaces Screen and RenderScheduler.OnDemand.
  *
  * @author Joni Mäkinen
  */
-public class HighScoresSelectionMenu extends fi.tuni.mental_run.GameProject implements Screen {
+public class HighScoresSelectionMenu extends fi.tuni.mental_run.GameProject implements Screen, RenderScheduler.OnDemand {
     fi.tuni.mental_run.MenuBackground menuBackground = new MenuBackground();
     fi.tuni.mental_run.Button button = new Button();
 
     /**
      * Constructs HighScoresSelectionMenu.
+     * <p>
+     * Created once by ScreenManager, which resets it every time the player comes back to it.
      *
      * @param host                GameProject host
      * @param musicOn             has info if music is toggled
@@ -49,8 +51,6 @@ public class HighScoresSelectionMenu extends fi.tuni.mental_run.GameProject impl
         // yDown: false means that positive Y-axis points up on the screen.
         // Camera width is WINDOW_WIDTH, camera height is WINDOW_HEIGHT.
         camera.setToOrtho(false, WINDOW_WIDTH, WINDOW_HEIGHT);
-
-        soundEffectPressButton = Gdx.audio.newSound(Gdx.files.internal("sound_effects/press_button.mp3"));
     }
 
     @Override
@@ -60,8 +60,8 @@ public class HighScoresSelectionMenu extends fi.tuni.mental_run.GameProject impl
 
         checkInput();
 
-        menuBackground.setCurrentFrame(statetime);
         statetime += Gdx.graphics.getDeltaTime();
+        menuBackground.setCurrentFrame(statetime);
 
         batch.begin();
         batch.draw(menuBackground.currentFrame, menuBackground.menuBackgroundRectangle.x, menuBackground.menuBackgroundRectangle.y, WINDOW_WIDTH, WINDOW_HEIGHT);
@@ -72,44 +72,54 @@ public class HighScoresSelectionMenu extends fi.tuni.mental_run.GameProject impl
         batch.end();
     }
 
+    /**
+     * Returns the time until the background animation changes its frame. The screen is rendered on demand.
+     *
+     * @return the time in seconds
+     */
+    @Override
+    public float getTimeToNextChange() {
+        return menuBackground.getTimeToNextFrame(statetime);
+    }
+
     /**
      * Checks for user input for level 1, level 2 and level 3 high scores buttons and for back button.
      */
     public void checkInput() {
         if (Gdx.input.justTouched()) {
             touchPos = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-            camera.unproject(touchPos);
+            RenderTarget.unproject(camera, touchPos);
 
             if (button.level1ButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
                 levelVariable = 1;
                 // Takes you to HighScores.
-                host.setScreen(new fi.tuni.mental_run.HighScores(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, levelVariable, statetime));
+                host.screenManager.show(new fi.tuni.mental_run.HighScores(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, levelVariable, statetime));
             }
             if (button.level2ButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
                 levelVariable = 2;
                 // Takes you to HighScores.
-                host.setScreen(new fi.tuni.mental_run.HighScores(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, levelVariable, statetime));
+                host.screenManager.show(new fi.tuni.mental_run.HighScores(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, levelVariable, statetime));
             }
             if (button.level3ButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
                 levelVariable = 3;
                 // Takes you to HighScores.
-                host.setScreen(new HighScores(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, levelVariable, statetime));
+                host.screenManager.show(new HighScores(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, levelVariable, statetime));
             }
             if (button.backButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
                 // Takes you to MainMenu.
-                host.setScreen(new MainMenu(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, statetime));
+                host.screenManager.showMainMenu(musicOn, soundOn, statetime);
             }
         }
     }
@@ -140,13 +150,6 @@ public class HighScoresSelectionMenu extends fi.tuni.mental_run.GameProject impl
 
     @Override
     public void dispose() {
-        menuBackgroundMusic.dispose();
-        soundEffectPressButton.dispose();
-
-        menuBackground.menuBackgroundSheet.dispose();
-        button.level1ButtonTexture.dispose();
-        button.level2ButtonTexture.dispose();
-        button.level3ButtonTexture.dispose();
-        button.backButtonTexture.dispose();
+
     }
 }
\ No newline at end of file
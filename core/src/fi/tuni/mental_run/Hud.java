@@ -0,0 +1,82 @@
+package fi.tuni.mental_run;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Vector3;
+
+/**
+ * Hud is the layer of the run that stays in place on the screen: the points, the lives, the pause and
+ * back to menu buttons and the game over board.
+ * <p>
+ * Hud has its own camera that is never moved, so everything on it is placed once in screen coordinates
+ * instead of following the character and the map loop every frame. The buttons and hearts are sprites and
+ * the points are a BitmapFontCache, which keep their vertices until the points or the lives change.
+ * The in-game buttons are hit-tested in the same coordinates, so the touches do not depend on the world camera.
+ * Extends GameProject.
+ */
+public class Hud extends GameProject {
+    Button button;
+    Lives lives;
+    Points points;
+
+    Sprite pauseButton;
+    Sprite backToMenuButton;
+
+    /**
+     * Constructs the layer and places the in-game buttons.
+     *
+     * @param button the buttons of the run, whose in-game button rectangles are placed here
+     * @param lives  the lives display of the run
+     * @param points the points counter of the run
+     */
+    public Hud(Button button, Lives lives, Points points) {
+        this.button = button;
+        this.lives = lives;
+        this.points = points;
+
+        camera = new OrthographicCamera();
+        // yDown: false means that positive Y-axis points up on the screen.
+        // Camera width is WINDOW_WIDTH, camera height is WINDOW_HEIGHT.
+        camera.setToOrtho(false, WINDOW_WIDTH, WINDOW_HEIGHT);
+
+        button.pauseButtonRectangle.setPosition(button.IN_GAME_BUTTON_POSITION_X, WINDOW_HEIGHT - button.IN_GAME_BUTTON_HEIGHT * 2 - 40);
+        button.backToMenuButtonRectangle.setPosition(button.IN_GAME_BUTTON_POSITION_X, WINDOW_HEIGHT - button.IN_GAME_BUTTON_HEIGHT - 20);
+
+        pauseButton = new Sprite(button.pauseButtonTexture);
+        pauseButton.setBounds(button.pauseButtonRectangle.x, button.pauseButtonRectangle.y, button.pauseButtonRectangle.width, button.pauseButtonRectangle.height);
+        backToMenuButton = new Sprite(button.backToMenuButtonTexture);
+        backToMenuButton.setBounds(button.backToMenuButtonRectangle.x, button.backToMenuButtonRectangle.y, button.backToMenuButtonRectangle.width, button.backToMenuButtonRectangle.height);
+    }
+
+    /**
+     * Switches the batch to the screen coordinates of the layer.
+     * The batch may be drawing, it then flushes what was drawn in the world coordinates first.
+     *
+     * @param batch the batch of the run
+     */
+    public void begin(SpriteBatch batch) {
+        batch.setProjectionMatrix(camera.combined);
+    }
+
+    /**
+     * Draws the points, the lives and the in-game buttons.
+     *
+     * @param batch the batch of the run, switched to the layer by begin
+     */
+    public void draw(SpriteBatch batch) {
+        points.draw(batch);
+        lives.draw(batch);
+        pauseButton.draw(batch);
+        backToMenuButton.draw(batch);
+    }
+
+    /**
+     * Converts a touch from screen pixels to the coordinates of the layer.
+     *
+     * @param touch the touch in screen pixels, set to the coordinates of the layer
+     */
+    public void unproject(Vector3 touch) {
+        RenderTarget.unproject(camera, touch);
+    }
+}
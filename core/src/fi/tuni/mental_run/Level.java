@@ -0,0 +1,106 @@
+package fi.tuni.mental_run;
+
+/**
+ * Level describes one level of the game for Run.
+ * <p>
+ * A level is data only: the map, the part of the map that loops, the points along the map where the
+ * character speeds up, how the speed develops after the first loop, which collectibles are spawned and
+ * how far apart.
+ * Run plays every level with the same code, so a new level only needs a new Level and its map.
+ * The distances are given in tiles and counted from the bottom of the map, the spawn gaps in pixels.
+ */
+public class Level {
+    // The spawn gaps used by all the levels. At the character's base speed of 4 pixels per step,
+    // the gaps are the same as the 180 to 360 and 500 to 750 steps the collectibles used to wait.
+    static final int[] COLLECTIBLE_GAP = {720, 1440};
+    static final int[] SPECIAL_COLLECTIBLE_GAP = {2000, 3000};
+
+    public static final Level LEVEL_1 = new Level(1, "run1_map/map1_v0.9..tmx", 400, 119,
+            new int[]{200, 400}, 2, false,
+            new CollectibleKind[]{CollectibleKind.ALARM_CLOCK, CollectibleKind.BACKPACK, CollectibleKind.BED,
+                    CollectibleKind.NO_BREAKFAST, CollectibleKind.PORRIDGE, CollectibleKind.TOOTHBRUSH},
+            new int[][]{COLLECTIBLE_GAP, COLLECTIBLE_GAP, COLLECTIBLE_GAP, COLLECTIBLE_GAP, COLLECTIBLE_GAP,
+                    COLLECTIBLE_GAP, SPECIAL_COLLECTIBLE_GAP});
+
+    public static final Level LEVEL_2 = new Level(2, "run2_map/Map2.tmx", 0, 170,
+            new int[]{100, 140}, 1, true,
+            new CollectibleKind[]{CollectibleKind.SOCIABILITY, CollectibleKind.SCHOOLBOOK, CollectibleKind.FOOTBALL,
+                    CollectibleKind.LUNCH, CollectibleKind.CANDY, CollectibleKind.MOBILE_PHONE},
+            new int[][]{COLLECTIBLE_GAP, COLLECTIBLE_GAP, COLLECTIBLE_GAP, COLLECTIBLE_GAP, COLLECTIBLE_GAP,
+                    COLLECTIBLE_GAP, SPECIAL_COLLECTIBLE_GAP});
+
+    public static final Level LEVEL_3 = new Level(3, "run3_map/level3map.tmx", 360, 159,
+            new int[]{200, 300}, 2, false,
+            new CollectibleKind[]{CollectibleKind.ENERGY_DRINK, CollectibleKind.GAMING, CollectibleKind.SANDWICH,
+                    CollectibleKind.SHOWER, CollectibleKind.SLEEP, CollectibleKind.TOOTHBRUSH_3},
+            new int[][]{COLLECTIBLE_GAP, COLLECTIBLE_GAP, COLLECTIBLE_GAP, COLLECTIBLE_GAP, COLLECTIBLE_GAP,
+                    COLLECTIBLE_GAP, SPECIAL_COLLECTIBLE_GAP});
+
+    // The number of the level, also used for the high scores.
+    final int number;
+
+    final String mapFileName;
+
+    // After loopStart + loopAmount the character is moved back to loopStart, so the run can continue infinitely.
+    final int loopStart;
+    final int loopAmount;
+
+    // Distances after which the character runs speedUpAmount faster.
+    final int[] speedUps;
+    final int speedUpAmount;
+
+    // If false, the speed is worked out from the distance on every frame and every map loop adds one more to it.
+    // If true, the speed is only worked out until the first map loop. After that it is kept and every map loop
+    // increases it by one.
+    final boolean persistentSpeed;
+
+    // The kinds of collectibles of the level. The first collectible of the run is one of these.
+    final CollectibleKind[] collectibles;
+
+    // The smallest and the largest distance between two spawns of a collectible, {min, max}.
+    // One row for each of collectibles, followed by the row of the special collectible.
+    final int[][] spawnGaps;
+
+    /**
+     * Describes a level.
+     *
+     * @param number          the number of the level
+     * @param mapFileName     the internal path of the level's Tiled map
+     * @param loopStart       the distance where the looping part of the map starts
+     * @param loopAmount      the length of the looping part of the map
+     * @param speedUps        the distances after which the character speeds up
+     * @param speedUpAmount   how much the character speeds up at each of speedUps
+     * @param persistentSpeed whether the speed is kept after the first map loop
+     * @param collectibles    the kinds of collectibles of the level
+     * @param spawnGaps       the spawn gaps of collectibles and the special collectible
+     */
+    public Level(int number, String mapFileName, int loopStart, int loopAmount, int[] speedUps, int speedUpAmount,
+                 boolean persistentSpeed, CollectibleKind[] collectibles, int[][] spawnGaps) {
+        this.number = number;
+        this.mapFileName = mapFileName;
+        this.loopStart = loopStart;
+        this.loopAmount = loopAmount;
+        this.speedUps = speedUps;
+        this.speedUpAmount = speedUpAmount;
+        this.persistentSpeed = persistentSpeed;
+        this.collectibles = collectibles;
+        this.spawnGaps = spawnGaps;
+    }
+
+    /**
+     * Returns the level with the given number.
+     *
+     * @param number 1, 2 or 3
+     * @return the level
+     */
+    public static Level get(int number) {
+        switch (number) {
+            case 2:
+                return LEVEL_2;
+            case 3:
+                return LEVEL_3;
+            default:
+                return LEVEL_1;
+        }
+    }
+}
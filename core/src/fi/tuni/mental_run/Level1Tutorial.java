@@ -5,7 +5,6 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector3;
 
 /**
@@ -15,27 +14,32 @@ import com.badlogic.gdx.math.Vector3;
  * a tutorial for level 1, the level's collectibles, the rewards for collecting them, instructions on what collectibles to avoid
  * and an ok button.
  * Level1Tutorial also checks for user input for the ok button.
- * Ok button takes the player to Run1.
- * GameProject host is forwarded to Run1.
+ * Ok button takes the player to the level 1 Run.
+ * GameProject host is forwarded to Run.
  * Extends GameProject.
- * Implements interface Screen.
+ * Implements interfaces Screen and RenderScheduler.OnDemand.
  *
  * @author Joni Mäkinen
  */
-public class Level1Tutorial extends fi.tuni.mental_run.GameProject implements Screen {
+public class Level1Tutorial extends fi.tuni.mental_run.GameProject implements Screen, RenderScheduler.OnDemand {
     MenuBackground menuBackground = new MenuBackground();
     Button button = new Button();
 
-    AlarmClock alarmClock = new AlarmClock();
-    Backpack backpack = new Backpack();
-    fi.tuni.mental_run.Bed bed = new Bed();
-    NoBreakfast noBreakfast = new NoBreakfast();
-    fi.tuni.mental_run.Porridge porridge = new Porridge();
-    fi.tuni.mental_run.Toothbrush toothbrush = new Toothbrush();
+    Collectible alarmClock = new Collectible(CollectibleKind.ALARM_CLOCK);
+    Collectible backpack = new Collectible(CollectibleKind.BACKPACK);
+    Collectible bed = new Collectible(CollectibleKind.BED);
+    Collectible noBreakfast = new Collectible(CollectibleKind.NO_BREAKFAST);
+    Collectible porridge = new Collectible(CollectibleKind.PORRIDGE);
+    Collectible toothbrush = new Collectible(CollectibleKind.TOOTHBRUSH);
 
     String level1Tut;
     String avoid;
 
+    // The next run's assets, loaded in the background while the tutorial is showing.
+    LevelAssets levelAssets;
+    // Whether the assets have finished loading.
+    boolean loaded;
+
     /**
      * Constructs the level 1 tutorial view.
      *
@@ -55,16 +59,16 @@ public class Level1Tutorial extends fi.tuni.mental_run.GameProject implements Sc
         this.statetime = statetime;
         batch = host.batch;
 
+        levelAssets = new LevelAssets(Level.LEVEL_1.mapFileName);
+
         camera = new OrthographicCamera();
         // yDown: false means that positive Y-axis points up on the screen.
         // Camera width is WINDOW_WIDTH, camera height is WINDOW_HEIGHT.
         camera.setToOrtho(false, WINDOW_WIDTH, WINDOW_HEIGHT);
 
-        soundEffectPressButton = Gdx.audio.newSound(Gdx.files.internal("sound_effects/press_button.mp3"));
-
-        turquoiseBoardTexture = new Texture("backgrounds/turquoise_board.png");
+        turquoiseBoardTexture = Assets.getRegion("backgrounds/turquoise_board.png");
 
-        roboto = host.generateFont();
+        roboto = Assets.getFont(Assets.FONT);
 
         level1Tut = getLevelText("level1Tutorial");
         avoid = getLevelText("avoid");
@@ -75,6 +79,8 @@ public class Level1Tutorial extends fi.tuni.mental_run.GameProject implements Sc
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        loaded = levelAssets.update();
+
         checkInput();
 
         statetime += Gdx.graphics.getDeltaTime();
@@ -88,35 +94,47 @@ public class Level1Tutorial extends fi.tuni.mental_run.GameProject implements Sc
         // Draws the collectibles and their values.
         batch.draw(porridge.texture, 50, 205);
         roboto.draw(batch, String.valueOf(porridge.reward), 50, 195);
-        batch.draw(alarmClock.texture, WINDOW_WIDTH / 2 - alarmClock.texture.getWidth() / 2, 205);
-        roboto.draw(batch, String.valueOf(alarmClock.reward), WINDOW_WIDTH / 2 - alarmClock.texture.getWidth() / 2, 195);
-        batch.draw(backpack.texture, WINDOW_WIDTH - 50 - backpack.texture.getWidth(), 205);
-        roboto.draw(batch, String.valueOf(backpack.reward), WINDOW_WIDTH - 50 - backpack.texture.getWidth(), 195);
+        batch.draw(alarmClock.texture, WINDOW_WIDTH / 2 - alarmClock.texture.getRegionWidth() / 2, 205);
+        roboto.draw(batch, String.valueOf(alarmClock.reward), WINDOW_WIDTH / 2 - alarmClock.texture.getRegionWidth() / 2, 195);
+        batch.draw(backpack.texture, WINDOW_WIDTH - 50 - backpack.texture.getRegionWidth(), 205);
+        roboto.draw(batch, String.valueOf(backpack.reward), WINDOW_WIDTH - 50 - backpack.texture.getRegionWidth(), 195);
         batch.draw(toothbrush.texture, 50, 130);
         roboto.draw(batch, String.valueOf(toothbrush.reward), 50, 120);
-        batch.draw(noBreakfast.texture, WINDOW_WIDTH / 2 - noBreakfast.texture.getWidth() / 2, 130);
-        roboto.draw(batch, avoid, WINDOW_WIDTH / 2 - noBreakfast.texture.getWidth() / 2 - 20, 120);
-        batch.draw(bed.texture, WINDOW_WIDTH - 50 - bed.texture.getWidth(), 130);
-        roboto.draw(batch, avoid, WINDOW_WIDTH - 50 - bed.texture.getWidth() - 20, 120);
+        batch.draw(noBreakfast.texture, WINDOW_WIDTH / 2 - noBreakfast.texture.getRegionWidth() / 2, 130);
+        roboto.draw(batch, avoid, WINDOW_WIDTH / 2 - noBreakfast.texture.getRegionWidth() / 2 - 20, 120);
+        batch.draw(bed.texture, WINDOW_WIDTH - 50 - bed.texture.getRegionWidth(), 130);
+        roboto.draw(batch, avoid, WINDOW_WIDTH - 50 - bed.texture.getRegionWidth() - 20, 120);
 
         batch.draw(button.smallOkButtonTexture, button.smallOkButtonRectangle.x, button.smallOkButtonRectangle.y, button.smallOkButtonRectangle.width, button.smallOkButtonRectangle.height);
         batch.end();
     }
 
+    /**
+     * Returns the time until the background animation changes its frame. The screen is rendered on demand,
+     * but continuously while the level is still loading, because the loading continues once per frame.
+     *
+     * @return the time in seconds, or 0 while the level is loading
+     */
+    @Override
+    public float getTimeToNextChange() {
+        return loaded ? menuBackground.getTimeToNextFrame(statetime) : 0;
+    }
+
     /**
      * Checks for user input for the ok button.
      */
     public void checkInput() {
         if (Gdx.input.justTouched()) {
             touchPos = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-            camera.unproject(touchPos);
+            RenderTarget.unproject(camera, touchPos);
 
             if (button.smallOkButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
-                // Takes you to Run1.
-                host.setScreen(new Run1(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic));
+                // Takes you to the level 1 Run.
+                // Waits for the rest of the assets if the player was faster than the loading.
+                host.screenManager.show(new Run(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, Level.LEVEL_1, levelAssets.finishLoading()));
             }
         }
     }
@@ -133,25 +151,6 @@ public class Level1Tutorial extends fi.tuni.mental_run.GameProject implements Sc
 
     @Override
     public void dispose() {
-        batch.dispose();
-
-        menuBackgroundMusic.dispose();
-        runBackgroundMusic.dispose();
-
-        soundEffectPressButton.dispose();
-
-        menuBackground.menuBackgroundSheet.dispose();
-        turquoiseBoardTexture.dispose();
-        alarmClock.texture.dispose();
-        backpack.texture.dispose();
-        bed.texture.dispose();
-        noBreakfast.texture.dispose();
-        porridge.texture.dispose();
-        toothbrush.texture.dispose();
-        button.smallOkButtonTexture.dispose();
-
-        menuBackgroundMusic.dispose();
-        soundEffectPressButton.dispose();
-        roboto.dispose();
+
     }
 }
\ No newline at end of file
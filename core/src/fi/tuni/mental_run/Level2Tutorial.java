@@ -5,7 +5,6 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector3;
 
 /**
@@ -15,27 +14,32 @@ import com.badlogic.gdx.math.Vector3;
  * a tutorial for level 1, the level's collectibles, the rewards for collecting them, instructions on what collectibles to avoid
  * and an ok button.
  * Level2Tutorial also checks for user input for the ok button.
- * Ok button takes the player to Run2.
- * GameProject host is forwarded to Run2.
+ * Ok button takes the player to the level 2 Run.
+ * GameProject host is forwarded to Run.
  * Extends GameProject.
- * Implements interface Screen.
+ * Implements interfaces Screen and RenderScheduler.OnDemand.
  *
  * @author Joni Mäkinen
  */
-public class Level2Tutorial extends GameProject implements Screen {
+public class Level2Tutorial extends GameProject implements Screen, RenderScheduler.OnDemand {
     MenuBackground menuBackground = new MenuBackground();
     Button button = new Button();
 
-    Sociability sociability = new Sociability();
-    Schoolbook schoolbook = new Schoolbook();
-    Football football = new Football();
-    Lunch lunch = new Lunch();
-    Candy candy = new Candy();
-    MobilePhone mobilePhone = new MobilePhone();
+    Collectible sociability = new Collectible(CollectibleKind.SOCIABILITY);
+    Collectible schoolbook = new Collectible(CollectibleKind.SCHOOLBOOK);
+    Collectible football = new Collectible(CollectibleKind.FOOTBALL);
+    Collectible lunch = new Collectible(CollectibleKind.LUNCH);
+    Collectible candy = new Collectible(CollectibleKind.CANDY);
+    Collectible mobilePhone = new Collectible(CollectibleKind.MOBILE_PHONE);
 
     String level2Tut;
     String avoid;
 
+    // The next run's assets, loaded in the background while the tutorial is showing.
+    LevelAssets levelAssets;
+    // Whether the assets have finished loading.
+    boolean loaded;
+
     /**
      * Constructs the level 2 tutorial view.
      *
@@ -55,16 +59,16 @@ public class Level2Tutorial extends GameProject implements Screen {
         this.statetime = statetime;
         batch = host.batch;
 
+        levelAssets = new LevelAssets(Level.LEVEL_2.mapFileName);
+
         camera = new OrthographicCamera();
         // yDown: false means that positive Y-axis points up on the screen.
         // Camera width is WINDOW_WIDTH, camera height is WINDOW_HEIGHT.
         camera.setToOrtho(false, WINDOW_WIDTH, WINDOW_HEIGHT);
 
-        soundEffectPressButton = Gdx.audio.newSound(Gdx.files.internal("sound_effects/press_button.mp3"));
+        turquoiseBoardTexture = Assets.getRegion("backgrounds/turquoise_board.png");
 
-        turquoiseBoardTexture = new Texture("backgrounds/turquoise_board.png");
-
-        roboto = host.generateFont();
+        roboto = Assets.getFont(Assets.FONT);
 
         level2Tut = getLevelText("level2Tutorial");
         avoid = getLevelText("avoid");
@@ -75,6 +79,8 @@ public class Level2Tutorial extends GameProject implements Screen {
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        loaded = levelAssets.update();
+
         checkInput();
 
         statetime += Gdx.graphics.getDeltaTime();
@@ -88,35 +94,47 @@ public class Level2Tutorial extends GameProject implements Screen {
         // Draws the collectibles and their values.
         batch.draw(sociability.texture, 50, 205);
         roboto.draw(batch, String.valueOf(sociability.reward), 50, 195);
-        batch.draw(schoolbook.texture, WINDOW_WIDTH / 2 - schoolbook.texture.getWidth() / 2, 205);
-        roboto.draw(batch, String.valueOf(schoolbook.reward), WINDOW_WIDTH / 2 - schoolbook.texture.getWidth() / 2, 195);
-        batch.draw(football.texture, WINDOW_WIDTH - 50 - football.texture.getWidth(), 205);
-        roboto.draw(batch, String.valueOf(football.reward), WINDOW_WIDTH - 50 - football.texture.getWidth(), 195);
+        batch.draw(schoolbook.texture, WINDOW_WIDTH / 2 - schoolbook.texture.getRegionWidth() / 2, 205);
+        roboto.draw(batch, String.valueOf(schoolbook.reward), WINDOW_WIDTH / 2 - schoolbook.texture.getRegionWidth() / 2, 195);
+        batch.draw(football.texture, WINDOW_WIDTH - 50 - football.texture.getRegionWidth(), 205);
+        roboto.draw(batch, String.valueOf(football.reward), WINDOW_WIDTH - 50 - football.texture.getRegionWidth(), 195);
         batch.draw(lunch.texture, 50, 130);
         roboto.draw(batch, String.valueOf(lunch.reward), 50, 120);
-        batch.draw(candy.texture, WINDOW_WIDTH / 2 - candy.texture.getWidth() / 2, 130);
-        roboto.draw(batch, avoid, WINDOW_WIDTH / 2 - candy.texture.getWidth() / 2 - 20, 120);
-        batch.draw(mobilePhone.texture, WINDOW_WIDTH - 50 - mobilePhone.texture.getWidth(), 130);
-        roboto.draw(batch, avoid, WINDOW_WIDTH - 50 - mobilePhone.texture.getWidth() - 20, 120);
+        batch.draw(candy.texture, WINDOW_WIDTH / 2 - candy.texture.getRegionWidth() / 2, 130);
+        roboto.draw(batch, avoid, WINDOW_WIDTH / 2 - candy.texture.getRegionWidth() / 2 - 20, 120);
+        batch.draw(mobilePhone.texture, WINDOW_WIDTH - 50 - mobilePhone.texture.getRegionWidth(), 130);
+        roboto.draw(batch, avoid, WINDOW_WIDTH - 50 - mobilePhone.texture.getRegionWidth() - 20, 120);
 
         batch.draw(button.smallOkButtonTexture, button.smallOkButtonRectangle.x, button.smallOkButtonRectangle.y, button.smallOkButtonRectangle.width, button.smallOkButtonRectangle.height);
         batch.end();
     }
 
+    /**
+     * Returns the time until the background animation changes its frame. The screen is rendered on demand,
+     * but continuously while the level is still loading, because the loading continues once per frame.
+     *
+     * @return the time in seconds, or 0 while the level is loading
+     */
+    @Override
+    public float getTimeToNextChange() {
+        return loaded ? menuBackground.getTimeToNextFrame(statetime) : 0;
+    }
+
     /**
      * Checking for user input for the ok button.
      */
     public void checkInput() {
         if (Gdx.input.justTouched()) {
             touchPos = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-            camera.unproject(touchPos);
+            RenderTarget.unproject(camera, touchPos);
 
             if (button.smallOkButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
-                // Takes you to Run2.
-                host.setScreen(new Run2(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic));
+                // Takes you to the level 2 Run.
+                // Waits for the rest of the assets if the player was faster than the loading.
+                host.screenManager.show(new Run(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, Level.LEVEL_2, levelAssets.finishLoading()));
             }
         }
     }
@@ -133,24 +151,6 @@ public class Level2Tutorial extends GameProject implements Screen {
 
     @Override
     public void dispose() {
-        batch.dispose();
-
-        menuBackgroundMusic.dispose();
-
-        soundEffectPressButton.dispose();
-
-        menuBackground.menuBackgroundSheet.dispose();
-        turquoiseBoardTexture.dispose();
-        sociability.texture.dispose();
-        schoolbook.texture.dispose();
-        football.texture.dispose();
-        lunch.texture.dispose();
-        candy.texture.dispose();
-        mobilePhone.texture.dispose();
-        button.smallOkButtonTexture.dispose();
 
-        menuBackgroundMusic.dispose();
-        soundEffectPressButton.dispose();
-        roboto.dispose();
     }
 }
\ No newline at end of file
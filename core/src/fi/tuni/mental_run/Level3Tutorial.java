@@ -5,7 +5,6 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector3;
 
 /**
@@ -15,27 +14,32 @@ import com.badlogic.gdx.math.Vector3;
  * a tutorial for level 3, the level's collectibles, the rewards for collecting them, instructions on what collectibles to avoid
  * and an ok button.
  * Level3Tutorial also checks for user input for the ok button.
- * Ok button takes the player to Run3.
- * GameProject host is forwarded to Run3.
+ * Ok button takes the player to the level 3 Run.
+ * GameProject host is forwarded to Run.
  * Extends GameProject.
- * Implements interface Screen.
+ * Implements interfaces Screen and RenderScheduler.OnDemand.
  *
  * @author Joni Mäkinen
  */
-public class Level3Tutorial extends fi.tuni.mental_run.GameProject implements Screen {
+public class Level3Tutorial extends fi.tuni.mental_run.GameProject implements Screen, RenderScheduler.OnDemand {
     fi.tuni.mental_run.MenuBackground menuBackground = new MenuBackground();
     fi.tuni.mental_run.Button button = new Button();
 
-    fi.tuni.mental_run.EnergyDrink energyDrink = new EnergyDrink();
-    fi.tuni.mental_run.Gaming gaming = new Gaming();
-    fi.tuni.mental_run.Sandwich sandwich = new Sandwich();
-    fi.tuni.mental_run.Shower shower = new Shower();
-    fi.tuni.mental_run.Sleep sleep = new Sleep();
-    fi.tuni.mental_run.Toothbrush3 toothbrush3 = new Toothbrush3();
+    Collectible energyDrink = new Collectible(CollectibleKind.ENERGY_DRINK);
+    Collectible gaming = new Collectible(CollectibleKind.GAMING);
+    Collectible sandwich = new Collectible(CollectibleKind.SANDWICH);
+    Collectible shower = new Collectible(CollectibleKind.SHOWER);
+    Collectible sleep = new Collectible(CollectibleKind.SLEEP);
+    Collectible toothbrush3 = new Collectible(CollectibleKind.TOOTHBRUSH_3);
 
     String level3Tut;
     String avoid;
 
+    // The next run's assets, loaded in the background while the tutorial is showing.
+    LevelAssets levelAssets;
+    // Whether the assets have finished loading.
+    boolean loaded;
+
     /**
      * Constructs the level 3 tutorial view.
      *
@@ -55,16 +59,16 @@ public class Level3Tutorial extends fi.tuni.mental_run.GameProject implements Sc
         this.statetime = statetime;
         batch = host.batch;
 
+        levelAssets = new LevelAssets(Level.LEVEL_3.mapFileName);
+
         camera = new OrthographicCamera();
         // yDown: false means that positive Y-axis points up on the screen.
         // Camera width is WINDOW_WIDTH, camera height is WINDOW_HEIGHT.
         camera.setToOrtho(false, WINDOW_WIDTH, WINDOW_HEIGHT);
 
-        soundEffectPressButton = Gdx.audio.newSound(Gdx.files.internal("sound_effects/press_button.mp3"));
+        turquoiseBoardTexture = Assets.getRegion("backgrounds/turquoise_board.png");
 
-        turquoiseBoardTexture = new Texture("backgrounds/turquoise_board.png");
-
-        roboto = host.generateFont();
+        roboto = Assets.getFont(Assets.FONT);
 
         level3Tut = getLevelText("level3Tutorial");
         avoid = getLevelText("avoid");
@@ -76,6 +80,8 @@ public class Level3Tutorial extends fi.tuni.mental_run.GameProject implements Sc
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        loaded = levelAssets.update();
+
         checkInput();
 
         statetime += Gdx.graphics.getDeltaTime();
@@ -89,35 +95,47 @@ public class Level3Tutorial extends fi.tuni.mental_run.GameProject implements Sc
         // Draws the collectibles and their values.
         batch.draw(sleep.texture, 50, 205);
         roboto.draw(batch, String.valueOf(sleep.reward), 50, 195);
-        batch.draw(toothbrush3.texture, WINDOW_WIDTH / 2 - toothbrush3.texture.getWidth() / 2, 205);
-        roboto.draw(batch, String.valueOf(toothbrush3.reward), WINDOW_WIDTH / 2 - toothbrush3.texture.getWidth() / 2, 195);
-        batch.draw(sandwich.texture, WINDOW_WIDTH - 50 - sandwich.texture.getWidth(), 205);
-        roboto.draw(batch, String.valueOf(sandwich.reward), WINDOW_WIDTH - 50 - sandwich.texture.getWidth(), 195);
+        batch.draw(toothbrush3.texture, WINDOW_WIDTH / 2 - toothbrush3.texture.getRegionWidth() / 2, 205);
+        roboto.draw(batch, String.valueOf(toothbrush3.reward), WINDOW_WIDTH / 2 - toothbrush3.texture.getRegionWidth() / 2, 195);
+        batch.draw(sandwich.texture, WINDOW_WIDTH - 50 - sandwich.texture.getRegionWidth(), 205);
+        roboto.draw(batch, String.valueOf(sandwich.reward), WINDOW_WIDTH - 50 - sandwich.texture.getRegionWidth(), 195);
         batch.draw(shower.texture, 50, 130);
         roboto.draw(batch, String.valueOf(shower.reward), 50, 120);
-        batch.draw(energyDrink.texture, WINDOW_WIDTH / 2 - energyDrink.texture.getWidth() / 2, 130);
-        roboto.draw(batch, avoid, WINDOW_WIDTH / 2 - energyDrink.texture.getWidth() / 2 - 20, 120);
-        batch.draw(gaming.texture, WINDOW_WIDTH - 50 - gaming.texture.getWidth(), 130);
-        roboto.draw(batch, avoid, WINDOW_WIDTH - 50 - gaming.texture.getWidth() - 20, 120);
+        batch.draw(energyDrink.texture, WINDOW_WIDTH / 2 - energyDrink.texture.getRegionWidth() / 2, 130);
+        roboto.draw(batch, avoid, WINDOW_WIDTH / 2 - energyDrink.texture.getRegionWidth() / 2 - 20, 120);
+        batch.draw(gaming.texture, WINDOW_WIDTH - 50 - gaming.texture.getRegionWidth(), 130);
+        roboto.draw(batch, avoid, WINDOW_WIDTH - 50 - gaming.texture.getRegionWidth() - 20, 120);
 
         batch.draw(button.smallOkButtonTexture, button.smallOkButtonRectangle.x, button.smallOkButtonRectangle.y, button.smallOkButtonRectangle.width, button.smallOkButtonRectangle.height);
         batch.end();
     }
 
+    /**
+     * Returns the time until the background animation changes its frame. The screen is rendered on demand,
+     * but continuously while the level is still loading, because the loading continues once per frame.
+     *
+     * @return the time in seconds, or 0 while the level is loading
+     */
+    @Override
+    public float getTimeToNextChange() {
+        return loaded ? menuBackground.getTimeToNextFrame(statetime) : 0;
+    }
+
     /**
      * Checking for user input for the ok button.
      */
     public void checkInput() {
         if (Gdx.input.justTouched()) {
             touchPos = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-            camera.unproject(touchPos);
+            RenderTarget.unproject(camera, touchPos);
 
             if (button.smallOkButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
-                // Takes you to Run3.
-                host.setScreen(new Run3(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic));
+                // Takes you to the level 3 Run.
+                // Waits for the rest of the assets if the player was faster than the loading.
+                host.screenManager.show(new Run(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, Level.LEVEL_3, levelAssets.finishLoading()));
             }
         }
     }
@@ -134,24 +152,6 @@ public class Level3Tutorial extends fi.tuni.mental_run.GameProject implements Sc
 
     @Override
     public void dispose() {
-        batch.dispose();
-
-        menuBackgroundMusic.dispose();
-
-        soundEffectPressButton.dispose();
-
-        menuBackground.menuBackgroundSheet.dispose();
-        turquoiseBoardTexture.dispose();
-        sleep.texture.dispose();
-        toothbrush3.texture.dispose();
-        sandwich.texture.dispose();
-        shower.texture.dispose();
-        energyDrink.texture.dispose();
-        gaming.texture.dispose();
-        button.smallOkButtonTexture.dispose();
 
-        menuBackgroundMusic.dispose();
-        soundEffectPressButton.dispose();
-        roboto.dispose();
     }
 }
\ No newline at end of file
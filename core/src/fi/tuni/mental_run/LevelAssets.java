@@ -0,0 +1,92 @@
+package fi.tuni.mental_run;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+
+/**
+ * LevelAssets is the bundle of assets one run needs: the tiled map, the fonts
+ * and the character textures. The sound effects stay loaded in SoundManager.
+ * <p>
+ * Creating a LevelAssets queues the assets to the shared AssetManager of Assets.
+ * Level1Tutorial, Level2Tutorial and Level3Tutorial create the bundle when they are opened and call update
+ * every frame, so the assets are loaded in the background while the player reads the tutorial.
+ * The finished bundle is handed to the constructor of Run.
+ * The run unloads the bundle in its dispose. The fonts are only queued early: they are shared with the other
+ * screens, which get them from Assets without a reference of their own, so they stay loaded.
+ */
+public class LevelAssets {
+    static final String[] TEXTURES = {
+            "player/CharacterWalk.png",
+            "player/player_walk_left_sheet.png",
+            "player/player_walk_right_sheet.png"
+    };
+
+    static final String[] FONTS = {Assets.FONT, Assets.SMALLER_FONT, Assets.LARGER_FONT};
+
+    String mapFileName;
+
+    /**
+     * Queues the assets of the run that uses the given map.
+     *
+     * @param mapFileName the map of the level, Level.mapFileName
+     */
+    public LevelAssets(String mapFileName) {
+        // Prefers the map compiled by the compileMaps task over parsing the .tmx.
+        String compiledMap = mapFileName.substring(0, mapFileName.lastIndexOf('.')) + BinaryMapLoader.EXTENSION;
+        if (Gdx.files.internal(compiledMap).exists()) {
+            mapFileName = compiledMap;
+        }
+        this.mapFileName = mapFileName;
+
+        AssetManager manager = Assets.getManager();
+        manager.load(mapFileName, TiledMap.class);
+        for (String texture : TEXTURES) {
+            manager.load(texture, Texture.class);
+        }
+        for (String font : FONTS) {
+            Assets.loadFont(font);
+        }
+    }
+
+    /**
+     * Continues loading the queued assets. Called once per frame.
+     *
+     * @return true if all the assets have been loaded
+     */
+    public boolean update() {
+        return Assets.getManager().update();
+    }
+
+    /**
+     * Blocks until all the queued assets have been loaded.
+     *
+     * @return this bundle
+     */
+    public LevelAssets finishLoading() {
+        Assets.getManager().finishLoading();
+        return this;
+    }
+
+    /**
+     * Returns the loaded tiled map of the run.
+     *
+     * @return the tiled map
+     */
+    public TiledMap getMap() {
+        return Assets.getManager().get(mapFileName, TiledMap.class);
+    }
+
+    /**
+     * Drops the bundle's references to the map and the character textures.
+     * <p>
+     * Assets that are still referenced elsewhere stay loaded. The shared fonts are not unloaded.
+     */
+    public void unload() {
+        Assets.unload(mapFileName);
+        for (String texture : TEXTURES) {
+            Assets.unload(texture);
+        }
+    }
+}
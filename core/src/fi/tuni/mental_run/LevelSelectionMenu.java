@@ -12,48 +12,23 @@ import com.badlogic.gdx.math.Vector3;
  * <p>
  * LevelSelectionMenu draws the background animation and the level 1, level 2, level 3 and back buttons.
  * LevelSelectionMenu also checks for user input for those buttons.
- * Tapping level 1, level 2, or level 3 buttons take you to Run1, Run2 or Run3.
+ * Tapping level 1, level 2, or level 3 buttons take you to the tutorials of the levels.
  * Whichever button you tap determines which class you are taken to.
  * Back button takes you back to MainMenu.
  * GameProject host is forwarded to each of those classes.
  * Extends GameProject.
- * Implements interface Screen.
+ * Implements interfaces Screen and RenderScheduler.OnDemand.
  *
  * @author Joni Mäkinen
  */
-public class LevelSelectionMenu extends fi.tuni.mental_run.GameProject implements Screen {
+public class LevelSelectionMenu extends fi.tuni.mental_run.GameProject implements Screen, RenderScheduler.OnDemand {
     MenuBackground menuBackground = new MenuBackground();
     Button button = new Button();
 
     /**
      * A constructor for creating the level selection menu.
      * <p>
-     * Is called in Run1, Run2, Run3 and GameOver.
-     *
-     * @param host                GameProject host
-     * @param musicOn             has info if music is toggled
-     * @param soundOn             has info if sounds are toggled
-     * @param menuBackgroundMusic the menu background music
-     * @param runBackgroundMusic  the run background music
-     */
-    public LevelSelectionMenu(fi.tuni.mental_run.GameProject host, boolean musicOn, boolean soundOn, Music menuBackgroundMusic, Music runBackgroundMusic) {
-        this.host = host;
-        this.musicOn = musicOn;
-        this.soundOn = soundOn;
-        this.menuBackgroundMusic = menuBackgroundMusic;
-        this.runBackgroundMusic = runBackgroundMusic;
-        batch = host.batch;
-
-        camera = new OrthographicCamera();
-        // yDown: false means that positive Y-axis points up on the screen.
-        // Camera width is WINDOW_WIDTH, camera height is WINDOW_HEIGHT.
-        camera.setToOrtho(false, WINDOW_WIDTH, WINDOW_HEIGHT);
-
-        soundEffectPressButton = Gdx.audio.newSound(Gdx.files.internal("sound_effects/press_button.mp3"));
-    }
-
-    /**
-     * A constructor for creating the level selection menu.
+     * Created once by ScreenManager, which resets it every time the player comes back to it.
      *
      * @param host                GameProject host
      * @param musicOn             has info if music is toggled
@@ -75,8 +50,6 @@ public class LevelSelectionMenu extends fi.tuni.mental_run.GameProject implement
         // yDown: false means that positive Y-axis points up on the screen.
         // Camera width is WINDOW_WIDTH, camera height is WINDOW_HEIGHT.
         camera.setToOrtho(false, WINDOW_WIDTH, WINDOW_HEIGHT);
-
-        soundEffectPressButton = Gdx.audio.newSound(Gdx.files.internal("sound_effects/press_button.mp3"));
     }
 
     @Override
@@ -86,8 +59,8 @@ public class LevelSelectionMenu extends fi.tuni.mental_run.GameProject implement
 
         checkInput();
 
-        menuBackground.setCurrentFrame(statetime);
         statetime += Gdx.graphics.getDeltaTime();
+        menuBackground.setCurrentFrame(statetime);
 
         batch.begin();
         batch.draw(menuBackground.currentFrame, menuBackground.menuBackgroundRectangle.x, menuBackground.menuBackgroundRectangle.y, WINDOW_WIDTH, WINDOW_HEIGHT);
@@ -100,6 +73,16 @@ public class LevelSelectionMenu extends fi.tuni.mental_run.GameProject implement
         batch.end();
     }
 
+    /**
+     * Returns the time until the background animation changes its frame. The screen is rendered on demand.
+     *
+     * @return the time in seconds
+     */
+    @Override
+    public float getTimeToNextChange() {
+        return menuBackground.getTimeToNextFrame(statetime);
+    }
+
     /**
      * Checks for user input.
      * <p>
@@ -108,35 +91,35 @@ public class LevelSelectionMenu extends fi.tuni.mental_run.GameProject implement
     public void checkInput() {
         if (Gdx.input.justTouched()) {
             touchPos = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-            camera.unproject(touchPos);
+            RenderTarget.unproject(camera, touchPos);
 
             if (button.level1ButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
                 // Takes you to Level1Tutorial.
-                host.setScreen(new Level1Tutorial(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, statetime));
+                host.screenManager.show(new Level1Tutorial(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, statetime));
             }
             if (button.level2ButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
                 // Takes you to Level2Tutorial.
-                host.setScreen(new Level2Tutorial(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, statetime));
+                host.screenManager.show(new Level2Tutorial(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, statetime));
             }
             if (button.level3ButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
                 // Takes you to Level3Tutorial.
-                host.setScreen(new Level3Tutorial(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, statetime));
+                host.screenManager.show(new Level3Tutorial(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, statetime));
             }
             if (button.backButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
                 // Takes you to MainMenu.
-                host.setScreen(new MainMenu(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, statetime));
+                host.screenManager.showMainMenu(musicOn, soundOn, statetime);
             }
         }
     }
@@ -167,17 +150,6 @@ public class LevelSelectionMenu extends fi.tuni.mental_run.GameProject implement
 
     @Override
     public void dispose() {
-        batch.dispose();
-
-        menuBackgroundMusic.dispose();
-        runBackgroundMusic.dispose();
-
-        soundEffectPressButton.dispose();
 
-        menuBackground.menuBackgroundSheet.dispose();
-        button.level1ButtonTexture.dispose();
-        button.level2ButtonTexture.dispose();
-        button.level3ButtonTexture.dispose();
-        button.backButtonTexture.dispose();
     }
 }
\ No newline at end of file
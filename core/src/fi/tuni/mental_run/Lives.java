@@ -1,26 +1,26 @@
 package fi.tuni.mental_run;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Lives is for implementing the three hearts which mean the lives the player has left.
  * <p>
  * Lives stores all variables which affect the lives display.
+ * The hearts are sprites in the screen coordinates of Hud. A sprite keeps its vertices, so the hearts
+ * are only changed between red and black when the counter changes and drawing them computes nothing.
  * Extends GameProject.
  *
  * @author Joni Mäkinen
  */
 public class Lives extends GameProject {
-    fi.tuni.mental_run.Player player = new Player();
+    TextureRegion redHeart;
+    TextureRegion blackHeart;
 
-    Texture redHeart;
-    Texture blackHeart;
-
-    Rectangle leftHeartRectangle;
-    Rectangle centerHeartRectangle;
-    Rectangle rightHeartRectangle;
+    Sprite leftHeart;
+    Sprite centerHeart;
+    Sprite rightHeart;
 
     int HEART_WIDTH = 27;
     int HEART_HEIGHT = 26;
@@ -29,51 +29,59 @@ public class Lives extends GameProject {
     int CENTER_HEART_POSITION_X = 5 + HEART_WIDTH;
     int RIGHT_HEART_POSITION_X = 5 + HEART_WIDTH / 2;
 
+    int HEART_POSITION_Y = WINDOW_HEIGHT - 10 - HEART_HEIGHT - 20;
+    int RIGHT_HEART_POSITION_Y = HEART_POSITION_Y - 10;
+
     int counter = 3;
 
     boolean gameOver;
 
     /**
-     * A constructor for creating textures and rectangles for the hearts.
+     * A constructor for creating textures and sprites for the hearts.
      */
     public Lives() {
-        redHeart = new Texture("lives/red_heart.png");
-        blackHeart = new Texture("lives/black_heart.png");
+        redHeart = Assets.getRegion("lives/red_heart.png");
+        blackHeart = Assets.getRegion("lives/black_heart.png");
 
-        leftHeartRectangle = new Rectangle(LEFT_HEART_POSITION_X, player.playerSprite.getY() - player.STARTING_POSITION_Y + WINDOW_HEIGHT - HEART_HEIGHT, HEART_WIDTH, HEART_HEIGHT);
-        centerHeartRectangle = new Rectangle(CENTER_HEART_POSITION_X, player.playerSprite.getY() - player.STARTING_POSITION_Y + WINDOW_HEIGHT - HEART_HEIGHT, HEART_WIDTH, HEART_HEIGHT);
-        rightHeartRectangle = new Rectangle(RIGHT_HEART_POSITION_X, player.playerSprite.getY() - player.STARTING_POSITION_Y + WINDOW_HEIGHT - HEART_HEIGHT, HEART_WIDTH, HEART_HEIGHT);
+        leftHeart = createHeart(LEFT_HEART_POSITION_X, HEART_POSITION_Y);
+        centerHeart = createHeart(CENTER_HEART_POSITION_X, HEART_POSITION_Y);
+        rightHeart = createHeart(RIGHT_HEART_POSITION_X, RIGHT_HEART_POSITION_Y);
     }
 
     /**
-     * Draws the lives display.
+     * Creates a red heart at the given screen position.
+     */
+    private Sprite createHeart(int x, int y) {
+        Sprite heart = new Sprite(redHeart);
+        heart.setBounds(x, y, HEART_WIDTH, HEART_HEIGHT);
+        return heart;
+    }
+
+    /**
+     * Sets the lives the player has left and turns the lost hearts black.
      * <p>
-     * Boolean gameOver is set as true when the counter hits zero. This makes Run1, Run2 or Run3 switch to GameOver.
+     * Boolean gameOver is set as true when the counter hits zero. This makes Run switch to GameOver.
      *
-     * @param batch      from Run1, Run2 and Run3. Its draw function is called in draw
-     * @param playerYPos is used when determining the y coordinate for the lives display
+     * @param counter the lives left
      */
-    public void draw(SpriteBatch batch, float playerYPos) {
-        if (counter == 3) {
-            batch.draw(redHeart, LEFT_HEART_POSITION_X, playerYPos + WINDOW_HEIGHT - 10 - HEART_HEIGHT - 25, leftHeartRectangle.width, leftHeartRectangle.height);
-            batch.draw(redHeart, CENTER_HEART_POSITION_X, playerYPos + WINDOW_HEIGHT - 10 - HEART_HEIGHT - 25, centerHeartRectangle.width, centerHeartRectangle.height);
-            batch.draw(redHeart, RIGHT_HEART_POSITION_X, playerYPos + WINDOW_HEIGHT - 10 - HEART_HEIGHT - 35, rightHeartRectangle.width, rightHeartRectangle.height);
-        }
-        if (counter == 2) {
-            batch.draw(redHeart, LEFT_HEART_POSITION_X, playerYPos + WINDOW_HEIGHT - 10 - HEART_HEIGHT - 25, leftHeartRectangle.width, leftHeartRectangle.height);
-            batch.draw(redHeart, CENTER_HEART_POSITION_X, playerYPos + WINDOW_HEIGHT - 10 - HEART_HEIGHT - 25, centerHeartRectangle.width, centerHeartRectangle.height);
-            batch.draw(blackHeart, RIGHT_HEART_POSITION_X, playerYPos + WINDOW_HEIGHT - 10 - HEART_HEIGHT - 35, rightHeartRectangle.width, rightHeartRectangle.height);
-        }
-        if (counter == 1) {
-            batch.draw(redHeart, LEFT_HEART_POSITION_X, playerYPos + WINDOW_HEIGHT - 10 - HEART_HEIGHT - 25, leftHeartRectangle.width, leftHeartRectangle.height);
-            batch.draw(blackHeart, CENTER_HEART_POSITION_X, playerYPos + WINDOW_HEIGHT - 10 - HEART_HEIGHT - 25, centerHeartRectangle.width, centerHeartRectangle.height);
-            batch.draw(blackHeart, RIGHT_HEART_POSITION_X, playerYPos + WINDOW_HEIGHT - 10 - HEART_HEIGHT - 35, rightHeartRectangle.width, rightHeartRectangle.height);
-        }
-        if (counter == 0) {
-            batch.draw(blackHeart, LEFT_HEART_POSITION_X, playerYPos + WINDOW_HEIGHT - 10 - HEART_HEIGHT - 25, leftHeartRectangle.width, leftHeartRectangle.height);
-            batch.draw(blackHeart, CENTER_HEART_POSITION_X, playerYPos + WINDOW_HEIGHT - 10 - HEART_HEIGHT - 25, centerHeartRectangle.width, centerHeartRectangle.height);
-            batch.draw(blackHeart, RIGHT_HEART_POSITION_X, playerYPos + WINDOW_HEIGHT - 10 - HEART_HEIGHT - 35, rightHeartRectangle.width, rightHeartRectangle.height);
+    public void setCounter(int counter) {
+        this.counter = counter;
+        leftHeart.setRegion(counter >= 1 ? redHeart : blackHeart);
+        centerHeart.setRegion(counter >= 2 ? redHeart : blackHeart);
+        rightHeart.setRegion(counter >= 3 ? redHeart : blackHeart);
+        if (counter <= 0) {
             gameOver = true;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Draws the lives display.
+     *
+     * @param batch from Hud, its projection in screen coordinates. Its draw function is called in draw
+     */
+    public void draw(SpriteBatch batch) {
+        leftHeart.draw(batch);
+        centerHeart.draw(batch);
+        rightHeart.draw(batch);
+    }
+}
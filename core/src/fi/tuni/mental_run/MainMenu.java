@@ -18,45 +18,18 @@ import com.badlogic.gdx.math.Vector3;
  * or you can exit the game.
  * GameProject host is forwarded to all of these classes.
  * Extends GameProject.
- * Implements interface Screen.
+ * Implements interfaces Screen and RenderScheduler.OnDemand.
  *
  * @author Joni Mäkinen
  */
-public class MainMenu extends fi.tuni.mental_run.GameProject implements Screen {
+public class MainMenu extends fi.tuni.mental_run.GameProject implements Screen, RenderScheduler.OnDemand {
     MenuBackground menuBackground = new MenuBackground();
     Button button = new Button();
 
     /**
      * Constructs the main menu.
      * <p>
-     * Used when the player comes to MainMenu when opening the game or from Run1, Run2, Run3, GameOver or HighScores.
-     *
-     * @param host                GameProject host
-     * @param musicOn             has info if music is toggled
-     * @param soundOn             has info if sounds are toggled
-     * @param menuBackgroundMusic the menu background music
-     * @param runBackgroundMusic  the run background music
-     */
-    public MainMenu(fi.tuni.mental_run.GameProject host, boolean musicOn, boolean soundOn, Music menuBackgroundMusic, Music runBackgroundMusic) {
-        this.host = host;
-        this.musicOn = musicOn;
-        this.soundOn = soundOn;
-        this.menuBackgroundMusic = menuBackgroundMusic;
-        this.runBackgroundMusic = runBackgroundMusic;
-        batch = host.batch;
-
-        camera = new OrthographicCamera();
-        // yDown: false means that positive Y-axis points up on the screen.
-        // Camera width is WINDOW_WIDTH, camera height is WINDOW_HEIGHT.
-        camera.setToOrtho(false, WINDOW_WIDTH, WINDOW_HEIGHT);
-
-        soundEffectPressButton = Gdx.audio.newSound(Gdx.files.internal("sound_effects/press_button.mp3"));
-    }
-
-    /**
-     * Constructs the main menu.
-     * <p>
-     * Used when the player comes to MainMenu from Settings, LevelSelectionMenu or HighScoresSelectionMenu.
+     * ScreenManager creates the main menu once and resets it every time the player comes back to it.
      *
      * @param host                GameProject host
      * @param musicOn             has info if music is toggled
@@ -78,8 +51,6 @@ public class MainMenu extends fi.tuni.mental_run.GameProject implements Screen {
         // yDown: false means that positive Y-axis points up on the screen.
         // Camera width is WINDOW_WIDTH, camera height is WINDOW_HEIGHT.
         camera.setToOrtho(false, WINDOW_WIDTH, WINDOW_HEIGHT);
-
-        soundEffectPressButton = Gdx.audio.newSound(Gdx.files.internal("sound_effects/press_button.mp3"));
     }
 
     @Override
@@ -103,36 +74,46 @@ public class MainMenu extends fi.tuni.mental_run.GameProject implements Screen {
         batch.end();
     }
 
+    /**
+     * Returns the time until the background animation changes its frame. The screen is rendered on demand.
+     *
+     * @return the time in seconds
+     */
+    @Override
+    public float getTimeToNextChange() {
+        return menuBackground.getTimeToNextFrame(statetime);
+    }
+
     /**
      * Checks for user input for the settings, start, high scores and the exit buttons.
      */
     public void checkInput() {
         if (Gdx.input.justTouched()) {
             touchPos = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-            camera.unproject(touchPos);
+            RenderTarget.unproject(camera, touchPos);
 
             if (button.settingsButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
                 // Takes you to Settings.
-                host.setScreen(new Settings(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, statetime));
+                host.screenManager.showSettings(musicOn, soundOn, statetime);
             }
 
             if (button.startButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
                 // Takes you to LevelSelectionMenu.
-                host.setScreen(new LevelSelectionMenu(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, statetime));
+                host.screenManager.showLevelSelectionMenu(musicOn, soundOn, statetime);
             }
 
             if (button.highScoresButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
                 // Takes you to HighScoresSelectionMenu.
-                host.setScreen(new HighScoresSelectionMenu(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, statetime));
+                host.screenManager.showHighScoresSelectionMenu(musicOn, soundOn, statetime);
             }
 
             // Exits the game.
@@ -169,15 +150,6 @@ public class MainMenu extends fi.tuni.mental_run.GameProject implements Screen {
 
     @Override
     public void dispose() {
-        batch.dispose();
-
-        menuBackgroundMusic.dispose();
-        soundEffectPressButton.dispose();
 
-        menuBackground.menuBackgroundSheet.dispose();
-        button.startButtonTexture.dispose();
-        button.settingsButtonTexture.dispose();
-        button.highScoresButtonTexture.dispose();
-        button.exitButtonTexture.dispose();
     }
 }
\ No newline at end of file
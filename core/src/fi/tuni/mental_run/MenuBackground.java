@@ -27,7 +27,7 @@ public class MenuBackground extends GameProject {
      * Constructs the menu background animation.
      */
     public MenuBackground() {
-        menuBackgroundSheet = new Texture("backgrounds/MenuArt798x3996.png");
+        menuBackgroundSheet = Assets.getTexture("backgrounds/MenuArt798x3996.png");
 
         menuBackgroundRectangle = new Rectangle(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
 
@@ -61,4 +61,15 @@ public class MenuBackground extends GameProject {
     public void setCurrentFrame(float statetime) {
         currentFrame = menuBackgroundAnimation.getKeyFrame(statetime, true);
     }
+
+    /**
+     * Returns the time until the animation changes to its next frame.
+     *
+     * @param statetime the time of the animation
+     * @return the time in seconds
+     */
+    public float getTimeToNextFrame(float statetime) {
+        float frameDuration = menuBackgroundAnimation.getFrameDuration();
+        return frameDuration - statetime % frameDuration;
+    }
 }
\ No newline at end of file
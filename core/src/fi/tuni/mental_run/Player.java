@@ -53,9 +53,9 @@ public class Player extends GameProject {
         playerSprite = new Sprite();
         playerSprite.setBounds(STARTING_POSITION_X, STARTING_POSITION_Y, PLAYER_WIDTH, PLAYER_HEIGHT / 2);
 
-        playerWalkForwardSheet = new Texture("player/CharacterWalk.png");
-        playerWalkLeftSheet = new Texture("player/player_walk_left_sheet.png");
-        playerWalkRightSheet = new Texture("player/player_walk_right_sheet.png");
+        playerWalkForwardSheet = Assets.getTexture("player/CharacterWalk.png");
+        playerWalkLeftSheet = Assets.getTexture("player/player_walk_left_sheet.png");
+        playerWalkRightSheet = Assets.getTexture("player/player_walk_right_sheet.png");
 
         TextureRegion[][] temp = TextureRegion.split(playerWalkForwardSheet, playerWalkForwardSheet.getWidth() / FRAME_COLS, playerWalkForwardSheet.getHeight() / FRAME_ROWS);
         TextureRegion[] textureRegions = transform2DTo1D(temp);
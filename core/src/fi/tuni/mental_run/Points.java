@@ -1,13 +1,52 @@
 package fi.tuni.mental_run;
 
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.StringBuilder;
+
 /**
  * Variables counter, stringCounter and POINT_COUNTER_POSITION_X are stored in Points.
+ * <p>
+ * stringCounter is rewritten in place when the points change, so a pickup does not allocate a new string.
+ * The glyphs of the points are laid out into a BitmapFontCache at the same time, in the screen coordinates
+ * of Hud, so drawing the points only copies the cached vertices.
  *
  * @author Joni Mäkinen
  */
 public class Points {
-    String stringCounter = "0";
+    StringBuilder stringCounter = new StringBuilder("0");
 
     int counter;
     int POINT_COUNTER_POSITION_X = 5;
-}
\ No newline at end of file
+    int POINT_COUNTER_POSITION_Y = 475;
+
+    BitmapFontCache cache = new BitmapFontCache(Assets.getFont(Assets.FONT));
+
+    /**
+     * Lays out the initial points.
+     */
+    public Points() {
+        cache.setText(stringCounter, POINT_COUNTER_POSITION_X, POINT_COUNTER_POSITION_Y);
+    }
+
+    /**
+     * Sets the points and their text.
+     *
+     * @param counter the points
+     */
+    public void setCounter(int counter) {
+        this.counter = counter;
+        stringCounter.setLength(0);
+        stringCounter.append(counter);
+        cache.setText(stringCounter, POINT_COUNTER_POSITION_X, POINT_COUNTER_POSITION_Y);
+    }
+
+    /**
+     * Draws the points.
+     *
+     * @param batch from Hud, its projection in screen coordinates
+     */
+    public void draw(SpriteBatch batch) {
+        cache.draw(batch);
+    }
+}
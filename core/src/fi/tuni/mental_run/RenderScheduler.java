@@ -0,0 +1,75 @@
+package fi.tuni.mental_run;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.utils.Timer;
+
+/**
+ * RenderScheduler renders the menus only when they change.
+ * <p>
+ * The only thing that moves on the menus is the background animation, which changes its frame every 10 / 60
+ * seconds. Rendering them at the full rate of the display draws the same picture over and over, so while
+ * a screen that implements OnDemand is shown, continuous rendering is turned off. A frame is then rendered
+ * when the screen changes by itself, when there is input and when a sound effect has been queued on a backend
+ * that plays the sounds in the render thread. Other screens, and an OnDemand screen while it changes on every
+ * frame, are rendered continuously.
+ * <p>
+ * GameProject calls frameRendered after every frame with the screen that will be shown on the next frame.
+ */
+public class RenderScheduler {
+    /**
+     * A screen that only changes by itself at known times and can be rendered on demand.
+     */
+    public interface OnDemand {
+        /**
+         * Returns the time until the screen changes by itself, for example until the next frame of its animation.
+         *
+         * @return the time in seconds, or 0 if the screen changes on every frame and is rendered continuously
+         */
+        float getTimeToNextChange();
+    }
+
+    private static boolean onDemand;
+
+    // Renders the next frame when the shown screen changes.
+    private static final Timer.Task nextFrame = new Timer.Task() {
+        @Override
+        public void run() {
+            Gdx.graphics.requestRendering();
+        }
+    };
+
+    /**
+     * Turns continuous rendering on or off for the given screen and, if it is rendered on demand,
+     * schedules the frame in which it changes next.
+     *
+     * @param screen the screen that is shown
+     */
+    public static void frameRendered(Screen screen) {
+        float time = screen instanceof OnDemand ? ((OnDemand) screen).getTimeToNextChange() : 0;
+        if (time <= 0) {
+            if (onDemand) {
+                onDemand = false;
+                nextFrame.cancel();
+                Gdx.graphics.setContinuousRendering(true);
+            }
+            return;
+        }
+
+        if (!onDemand) {
+            onDemand = true;
+            Gdx.graphics.setContinuousRendering(false);
+        }
+        nextFrame.cancel();
+        Timer.schedule(nextFrame, time);
+    }
+
+    /**
+     * Renders a frame soon. Called when something that only happens in a frame is waiting, like a queued sound.
+     */
+    public static void requestFrame() {
+        if (onDemand) {
+            Gdx.graphics.requestRendering();
+        }
+    }
+}
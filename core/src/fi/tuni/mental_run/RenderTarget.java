@@ -0,0 +1,187 @@
+package fi.tuni.mental_run;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+
+/**
+ * RenderTarget chooses the resolution the game is drawn in.
+ * <p>
+ * Every screen draws with a camera of WIDTH × HEIGHT. With QUALITY_HIGH the screens draw straight into the
+ * screen at its own resolution. With QUALITY_MEDIUM and QUALITY_LOW GameProject draws the screens into
+ * a FrameBuffer of two times or exactly WIDTH × HEIGHT, and end draws the buffer on the screen through
+ * a FitViewport. On a 1440 × 3120 screen that fills 8 or 32 times fewer pixels per frame with the same picture,
+ * with bars on the sides of the screen if its shape differs from the game's.
+ * <p>
+ * The screens unproject their touches through unproject, which takes the bars into account.
+ * The quality is chosen in Settings and kept in the preferences.
+ */
+public class RenderTarget {
+    public static final int QUALITY_HIGH = 0;
+    public static final int QUALITY_MEDIUM = 1;
+    public static final int QUALITY_LOW = 2;
+
+    // The texts of the qualities in Settings, indexed by the quality.
+    static final String[] QUALITY_TEXTS = {"qualityHigh", "qualityMedium", "qualityLow"};
+
+    // The size of the game, the size of the cameras of every screen.
+    static final int WIDTH = 288;
+    static final int HEIGHT = 480;
+
+    static final String PREFERENCES = "mental_run";
+    static final String QUALITY_PREFERENCE = "quality";
+
+    private static Preferences preferences;
+    private static int quality;
+
+    private static FrameBuffer frameBuffer;
+    private static final FitViewport viewport = new FitViewport(WIDTH, HEIGHT, new OrthographicCamera());
+
+    /**
+     * Reads the quality from the preferences. Called once when the game is created.
+     */
+    public static void load() {
+        preferences = Gdx.app.getPreferences(PREFERENCES);
+        quality = preferences.getInteger(QUALITY_PREFERENCE, QUALITY_HIGH);
+        if (quality < QUALITY_HIGH || quality > QUALITY_LOW) {
+            quality = QUALITY_HIGH;
+        }
+        resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+    }
+
+    public static int getQuality() {
+        return quality;
+    }
+
+    /**
+     * Sets the quality and saves it in the preferences. The new quality is used from the next frame.
+     *
+     * @param quality QUALITY_HIGH, QUALITY_MEDIUM or QUALITY_LOW
+     */
+    public static void setQuality(int quality) {
+        RenderTarget.quality = quality;
+        if (preferences != null) {
+            preferences.putInteger(QUALITY_PREFERENCE, quality);
+            preferences.flush();
+        }
+    }
+
+    /**
+     * Starts drawing the frame into the buffer if the quality uses one.
+     * The buffer is created or replaced when the quality has changed.
+     */
+    public static void begin() {
+        if (quality == QUALITY_HIGH) {
+            if (frameBuffer != null) {
+                frameBuffer.dispose();
+                frameBuffer = null;
+                // The screens draw into the whole screen again.
+                Gdx.gl.glViewport(0, 0, Gdx.graphics.getBackBufferWidth(), Gdx.graphics.getBackBufferHeight());
+            }
+            return;
+        }
+
+        int scale = quality == QUALITY_MEDIUM ? 2 : 1;
+        if (frameBuffer == null || frameBuffer.getWidth() != WIDTH * scale) {
+            if (frameBuffer != null) {
+                frameBuffer.dispose();
+            }
+            frameBuffer = new FrameBuffer(Pixmap.Format.RGB888, WIDTH * scale, HEIGHT * scale, false);
+            frameBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        }
+        frameBuffer.begin();
+    }
+
+    /**
+     * Draws the buffer on the screen, scaled to fit it, if the frame was drawn into the buffer.
+     *
+     * @param batch the batch of the game, not drawing
+     */
+    public static void end(SpriteBatch batch) {
+        if (frameBuffer == null) {
+            return;
+        }
+        frameBuffer.end();
+
+        // Clears the bars around the game.
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        viewport.apply();
+        batch.setProjectionMatrix(viewport.getCamera().combined);
+        batch.begin();
+        // The buffer is upside down as a texture.
+        Texture texture = frameBuffer.getColorBufferTexture();
+        batch.draw(texture, 0, 0, WIDTH, HEIGHT, 0, 0, texture.getWidth(), texture.getHeight(), false, true);
+        batch.end();
+    }
+
+    /**
+     * Binds the target of the frame again after a screen has drawn into a FrameBuffer of its own,
+     * whose end binds the screen.
+     */
+    public static void rebind() {
+        if (frameBuffer != null) {
+            frameBuffer.begin();
+        }
+    }
+
+    /**
+     * Returns the width in pixels of the target the screens draw into, the buffer or the screen.
+     *
+     * @return the width in pixels
+     */
+    public static int getWidth() {
+        return frameBuffer != null ? frameBuffer.getWidth() : Gdx.graphics.getBackBufferWidth();
+    }
+
+    /**
+     * Returns the height in pixels of the target the screens draw into, the buffer or the screen.
+     *
+     * @return the height in pixels
+     */
+    public static int getHeight() {
+        return frameBuffer != null ? frameBuffer.getHeight() : Gdx.graphics.getBackBufferHeight();
+    }
+
+    /**
+     * Fits the game to the new size of the screen.
+     *
+     * @param width  the width of the screen in pixels
+     * @param height the height of the screen in pixels
+     */
+    public static void resize(int width, int height) {
+        viewport.update(width, height, true);
+    }
+
+    /**
+     * Converts a touch from screen pixels to the coordinates of the given camera of WIDTH × HEIGHT.
+     *
+     * @param camera the camera of the screen
+     * @param touch  the touch in screen pixels, set to the coordinates of the camera
+     */
+    public static void unproject(OrthographicCamera camera, Vector3 touch) {
+        if (frameBuffer == null) {
+            camera.unproject(touch);
+        } else {
+            camera.unproject(touch, viewport.getScreenX(), viewport.getScreenY(), viewport.getScreenWidth(), viewport.getScreenHeight());
+        }
+    }
+
+    /**
+     * Disposes the buffer.
+     */
+    public static void dispose() {
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+            frameBuffer = null;
+        }
+    }
+}
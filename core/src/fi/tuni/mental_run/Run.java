@@ -0,0 +1,462 @@
+package fi.tuni.mental_run;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * Run is for implementing the runs of all the levels.
+ * <p>
+ * Run plays the level described by its Level: the map, the map loop, the character acceleration and
+ * the collectibles come from the Level, while the update and render code is shared by all the levels.
+ * The gameplay itself is simulated by RunSimulation, which Run steps, draws and gives the touches to.
+ * Run draws the level's map, its collectibles and the character animation in the world, and the points counter,
+ * the lives, the pause and back to menu buttons and GameOver on the screen-space layer Hud.
+ * While the game is paused or over, the world is drawn once into FreezeFrame and the frames are throttled.
+ * Run also checks for user input for these in-game buttons and for character controls.
+ * Tapping pause button pauses the game and tapping back to menu button takes you back to LevelSelectionMenu.
+ * Tapping the left side of the screen makes the character move leftwards and tapping the right side
+ * makes the character move rightwards.
+ * The character's and camera's y coordinate is increased during the run.
+ * This makes the character run upwards along the map.
+ * The player has three lives at the start of the run. The goal is collect as much positive collectibles
+ * as possible and avoid the negative collectibles.
+ * If the player mistakenly collects a negative collectible, they will lose a life.
+ * When all three lives are lost they are taken to GameOver.
+ * GameProject host is forwarded to classes Lives, GameOver, LevelSelectionMenu.
+ * Extends GameProject.
+ * Implements interfaces Screen, RunSimulation.Listener and RenderScheduler.OnDemand.
+ *
+ * @author Joni Mäkinen
+ */
+public class Run extends GameProject implements Screen, RunSimulation.Listener, RenderScheduler.OnDemand {
+    // The length of one simulation step in seconds. The speeds and durations of the run are per step.
+    static final float TIME_STEP = 1 / 60f;
+
+    // The longest frame time that is simulated. Slower frames slow the run down instead of making the character jump.
+    static final float MAX_FRAME_TIME = 0.25f;
+
+    // The time between the frames while the world is frozen. Taps and queued sounds render a frame right away,
+    // the frames in between pick up what happens outside of input, like a name entered for the high scores.
+    static final float FROZEN_FRAME_TIME = 0.5f;
+
+    Player player = new Player();
+    Button button = new Button();
+    Lives lives = new Lives();
+    Points points = new Points();
+    Countdown countdown = new Countdown();
+    GameOver gameOver = new GameOver();
+
+    // The layer of the points, the lives, the in-game buttons and GameOver, in screen coordinates.
+    Hud hud = new Hud(button, lives, points);
+
+    // The picture of the world while the game is paused or over.
+    FreezeFrame freezeFrame = new FreezeFrame();
+
+    // The gameplay of the run. Run draws its state and gives it the touches.
+    RunSimulation simulation;
+
+    // The touches of the screen since the previous frame.
+    TouchQueue touchQueue = new TouchQueue();
+
+    // The types of collectibles of the level, followed by the special collectible.
+    // The types of the collectibles in the simulation's store are indexes to this table.
+    Collectible[] collectibles;
+
+    // Used in controlling the pause mechanics and controlling the countdown sequence.
+    boolean paused;
+
+    int levelVariable;
+
+    // The time that has not been simulated yet. render runs as many steps of TIME_STEP as fit in it.
+    float accumulator;
+
+    Level level;
+    LevelAssets levelAssets;
+
+    // The seed of the run. Every random choice of the run is made by the simulation with this seed,
+    // so the seed and the input are enough to play the same run again.
+    long seed;
+
+    // The touches of this run, saved in RunRecording.LAST_RUN when the run ends.
+    RunRecording recording;
+    boolean recordingSaved;
+
+    // The recording being played again, or null when the player plays.
+    RunRecording replay;
+
+    /**
+     * Constructs the run of the given level.
+     *
+     * @param host                GameProject host
+     * @param musicOn             has info if music is toggled
+     * @param soundOn             has info if sounds are toggled
+     * @param menuBackgroundMusic the menu background music
+     * @param runBackgroundMusic  the run background music
+     * @param level               the level to play
+     * @param levelAssets         the map and fonts of the run, loaded by the tutorial
+     */
+    public Run(GameProject host, boolean musicOn, boolean soundOn, Music menuBackgroundMusic, Music runBackgroundMusic, Level level, LevelAssets levelAssets) {
+        this(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, level, levelAssets, null);
+    }
+
+    /**
+     * Constructs the run of the given level that plays a recorded run again.
+     * <p>
+     * The run uses the seed of the recording and its touches instead of the player's.
+     * The in-game buttons still work.
+     *
+     * @param host                GameProject host
+     * @param musicOn             has info if music is toggled
+     * @param soundOn             has info if sounds are toggled
+     * @param menuBackgroundMusic the menu background music
+     * @param runBackgroundMusic  the run background music
+     * @param level               the level to play
+     * @param levelAssets         the map and fonts of the run
+     * @param replay              the recording to play, or null to let the player play
+     */
+    public Run(GameProject host, boolean musicOn, boolean soundOn, Music menuBackgroundMusic, Music runBackgroundMusic, Level level, LevelAssets levelAssets, RunRecording replay) {
+        this.host = host;
+        this.musicOn = musicOn;
+        this.soundOn = soundOn;
+        this.menuBackgroundMusic = menuBackgroundMusic;
+        this.runBackgroundMusic = runBackgroundMusic;
+        this.level = level;
+        this.levelAssets = levelAssets;
+        batch = host.batch;
+
+        levelVariable = level.number;
+
+        this.replay = replay;
+        seed = replay != null ? replay.getSeed() : host.nextRunSeed();
+        gameOver.setSeed(seed);
+        simulation = new RunSimulation(level, seed);
+        simulation.setListener(this);
+        recording = new RunRecording(level, seed);
+
+        collectibles = new Collectible[simulation.kinds.length];
+        for (int i = 0; i < collectibles.length; i++) {
+            collectibles[i] = new Collectible(simulation.kinds[i]);
+        }
+
+        gameProjectMap = levelAssets.getMap();
+        tiledMapRenderer = new ChunkedMapRenderer(gameProjectMap);
+
+        camera = new OrthographicCamera();
+        // yDown: false means that positive Y-axis points up on the screen.
+        // Camera width is WINDOW_WIDTH, camera height is WINDOW_HEIGHT.
+        camera.setToOrtho(false, WINDOW_WIDTH, WINDOW_HEIGHT);
+
+        menuBackgroundMusic.stop();
+        if (musicOn) {
+            runBackgroundMusic.play();
+            runBackgroundMusic.setLooping(true);
+        }
+
+        turquoiseBoardTexture = Assets.getRegion("backgrounds/turquoise_board.png");
+
+        roboto = Assets.getFont(Assets.FONT);
+        largerRoboto = Assets.getFont(Assets.LARGER_FONT);
+
+        countdown.start();
+
+        // Sets the initial frame to be drawn of the character animation.
+        // This enables drawing of the character before the countdown sequence has been completed.
+        // In other words, currentFrame is no longer null after this method is executed.
+        player.setCurrentFrame();
+    }
+
+    /**
+     * Runs the simulation in steps of TIME_STEP and draws the run.
+     * <p>
+     * The gameplay advances by the same amount per second at any frame rate: a fast display runs a step only
+     * on some frames and a slow device runs several steps per frame. Between the steps the character and
+     * the camera are drawn at interpolated positions.
+     * <p>
+     * While the game is paused or over the world does not change, so it is drawn only once into freezeFrame
+     * and the following frames draw that texture under hud.
+     *
+     * @param delta the time since the previous frame in seconds
+     */
+    public void render(float delta) {
+        clearScreen();
+
+        // Handles the touches since the previous frame, each of them once.
+        handleTouches();
+
+        // Stops execution of parts of render when the game is paused.
+        // Also lets the run begin only after the countdown sequence has been completed.
+        if (!paused && countdown.completed && !lives.gameOver) {
+            if (freezeFrame.isCaptured()) {
+                // The run was paused. The time since the last throttled frame is not simulated.
+                freezeFrame.release();
+            } else {
+                // A long stall is not caught up completely, the run slows down instead.
+                accumulator += Math.min(delta, MAX_FRAME_TIME);
+            }
+            // The steps stop when the last life is lost. collected then ends the run through Lives.setCounter.
+            while (accumulator >= TIME_STEP && !simulation.isOver()) {
+                if (replay != null) {
+                    int side;
+                    while ((side = replay.next(simulation.getSteps())) != RunRecording.NO_TOUCH) {
+                        simulation.touch(side);
+                    }
+                }
+                simulation.step();
+                accumulator -= TIME_STEP;
+            }
+            if (simulation.isOver()) {
+                saveRecording();
+            }
+            player.playerSprite.setPosition(simulation.playerX, simulation.playerY);
+            camera.position.y = simulation.cameraY;
+
+            // Sets the current frame to be drawn of the character animation.
+            int velocityX = simulation.getVelocityX();
+            player.useWalkForwardSheet = velocityX == 0;
+            player.useWalkLeftSheet = velocityX < 0;
+            player.useWalkRightSheet = velocityX > 0;
+            player.setCurrentFrame();
+        }
+
+        if (paused || lives.gameOver) {
+            if (!freezeFrame.isCaptured()) {
+                freezeFrame.begin();
+                drawWorld();
+                batch.end();
+                freezeFrame.end();
+            }
+            batch.begin();
+            hud.begin(batch);
+            freezeFrame.draw(batch);
+        } else {
+            drawWorld();
+            hud.begin(batch);
+        }
+        // Draws the point counter, the life counter and the in-game buttons on top of the world.
+        hud.draw(batch);
+        // Calls gameOver.draw which draws the game over announcement.
+        if (lives.gameOver) {
+            gameOver.draw(levelVariable, roboto, largerRoboto, host, batch, menuBackgroundMusic, runBackgroundMusic, musicOn, soundOn, points.counter);
+        }
+        batch.end();
+    }
+
+    /**
+     * Draws the map, the collectibles, the character and the countdown in the world.
+     * <p>
+     * The batch is left drawing, so that the caller can draw on top of the world in the same batch.
+     */
+    private void drawWorld() {
+        // The camera is moved to its interpolated position for drawing and moved back afterwards.
+        float alpha = Math.min(accumulator / TIME_STEP, 1);
+        float cameraY = camera.position.y;
+        camera.position.y = MathUtils.lerp(simulation.previousCameraY, cameraY, alpha);
+        camera.update();
+        float playerX = MathUtils.lerp(simulation.previousPlayerX, simulation.playerX, alpha);
+        float playerY = MathUtils.lerp(simulation.previousPlayerY, simulation.playerY, alpha);
+        float excessDistance = simulation.excessDistance;
+        CollectibleStore store = simulation.store;
+
+        tiledMapRenderer.setView(camera);
+        tiledMapRenderer.render();
+
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+        // Draws the collectibles on the map.
+        for (int i = 0; i < store.end; i++) {
+            if (store.type[i] != CollectibleStore.FREE) {
+                batch.draw(collectibles[store.type[i]].texture, store.x[i], store.y[i] - excessDistance, store.width, store.height);
+            }
+        }
+        // Draws the character animation.
+        batch.draw(player.currentFrame, playerX, playerY - excessDistance);
+        // Calls countdown.draw which draws the countdown sequence.
+        // The camera comes back to the countdown after the first loop if the whole map loops.
+        if (!simulation.initialLoopDone) {
+            countdown.draw(batch, soundOn);
+        }
+
+        camera.position.y = cameraY;
+        camera.update();
+    }
+
+    /**
+     * Returns the time until the next throttled frame while the world is frozen.
+     *
+     * @return FROZEN_FRAME_TIME while the game is paused or over, otherwise 0 as the run is rendered continuously
+     */
+    @Override
+    public float getTimeToNextChange() {
+        return freezeFrame.isCaptured() ? FROZEN_FRAME_TIME : 0;
+    }
+
+    /**
+     * Plays the sound of the collected collectible and updates the point and life counters.
+     *
+     * @param kind the kind of the collectible
+     */
+    @Override
+    public void collected(CollectibleKind kind) {
+        if (soundOn) {
+            SoundManager.play(kind.sound);
+        }
+        points.setCounter(simulation.points);
+        lives.setCounter(simulation.lives);
+    }
+
+    /**
+     * Saves the recording of the run in RunRecording.LAST_RUN once the run has ended.
+     * A replayed run is not saved again.
+     */
+    private void saveRecording() {
+        if (recordingSaved || replay != null) {
+            return;
+        }
+        recordingSaved = true;
+        recording.end(simulation.getSteps());
+        recording.save(Gdx.files.local(RunRecording.LAST_RUN));
+    }
+
+    /**
+     * Clears the screen.
+     */
+    private void clearScreen() {
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+    }
+
+    /**
+     * Tells which side of the screen the latest touch was on.
+     * <p>
+     * touchPos has been unprojected to the screen coordinates of hud by handleTouches.
+     * The area of the in-game buttons at the top of the right side does not move the character.
+     *
+     * @return the side for RunSimulation.touch
+     */
+    private int getTouchSide() {
+        if (touchPos.x <= LEFT_SIDE_BORDER) {
+            return RunSimulation.TOUCH_LEFT;
+        }
+        if (touchPos.x >= RIGHT_SIDE_BORDER
+                // This row counts out the area at the top of the screen.
+                // Makes the pause button work properly.
+                && touchPos.y < WINDOW_HEIGHT - button.pauseButtonRectangle.height * 2 - 40) {
+            return RunSimulation.TOUCH_RIGHT;
+        }
+        return RunSimulation.TOUCH_NONE;
+    }
+
+    /**
+     * Handles the touches queued by touchQueue since the previous frame.
+     * <p>
+     * Pause button pauses and resumes the run. Back to menu button takes you back to LevelSelectionMenu.
+     * Other touches on the sides of the screen are given to the simulation to move the character.
+     * The in-game buttons work even if the game is paused although the countdown sequence has to be completed
+     * for them to work. Touches during the countdown and after the game is over are dropped.
+     */
+    private void handleTouches() {
+        // Checks input for the pause button, the back to menu button and the character controls.
+        while (touchQueue.poll(touchPos)) {
+            if (!countdown.completed || lives.gameOver) {
+                continue;
+            }
+            // The in-game buttons stay in place on hud, so the touches are tested in its coordinates.
+            hud.unproject(touchPos);
+
+            // Is true if the pause button is pressed.
+            if (button.pauseButtonRectangle.contains(touchPos.x, touchPos.y)) {
+                if (!paused) {
+                    if (musicOn) {
+                        runBackgroundMusic.pause();
+                    }
+                    if (soundOn) {
+                        SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
+                    }
+                    paused = true;
+                    useWalkForwardSheet = true;
+                    useWalkLeftSheet = false;
+                    useWalkRightSheet = false;
+                } else if (paused) {
+                    if (musicOn) {
+                        runBackgroundMusic.play();
+                        menuBackgroundMusic.setLooping(true);
+                    }
+                    if (soundOn) {
+                        SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
+                    }
+                    paused = false;
+                    useWalkForwardSheet = true;
+                    useWalkLeftSheet = false;
+                    useWalkRightSheet = false;
+                }
+                continue;
+            }
+
+            // Is true if the back to menu button is pressed.
+            if (button.backToMenuButtonRectangle.contains(touchPos.x, touchPos.y)) {
+                if (musicOn) {
+                    runBackgroundMusic.stop();
+                    menuBackgroundMusic.play();
+                    menuBackgroundMusic.setLooping(true);
+                }
+                if (soundOn) {
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
+                }
+                saveRecording();
+                // Takes you to LevelSelectionMenu.
+                host.screenManager.showLevelSelectionMenu(musicOn, soundOn, 0);
+                touchQueue.clear();
+                return;
+            }
+
+            // Gives the touch to the simulation, which handles it on the next step.
+            // A replayed run only takes the touches of the recording.
+            if (!paused && replay == null) {
+                int side = getTouchSide();
+                if (side != RunSimulation.TOUCH_NONE) {
+                    simulation.touch(side);
+                    recording.record(simulation.getSteps(), side);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void show() {
+        touchQueue.clear();
+        Gdx.input.setInputProcessor(touchQueue);
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        // The size of the frame may have changed, so the world is drawn again into a new buffer.
+        freezeFrame.release();
+    }
+
+    @Override
+    public void pause() {
+    }
+
+    @Override
+    public void resume() {
+    }
+
+    @Override
+    public void hide() {
+        if (Gdx.input.getInputProcessor() == touchQueue) {
+            Gdx.input.setInputProcessor(null);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        countdown.timer.cancel();
+        tiledMapRenderer.dispose();
+        freezeFrame.dispose();
+        levelAssets.unload();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package fi.tuni.mental_run;
+
+/**
+ * RunAutopilot plays a RunSimulation without a player.
+ * <p>
+ * Before every step it looks at the next collectible of each lane within LOOK_AHEAD pixels above the character.
+ * A lane with a negative collectible is avoided, and of the other lanes the one with the most points ahead
+ * is chosen, the current lane if there is no difference. The character is moved one lane at a time
+ * and never while it is already changing lanes. Used by the headless simulation runner to play many runs
+ * the way a careful player would.
+ */
+public class RunAutopilot {
+    // How far above the character the collectibles are looked at, in pixels.
+    static final int LOOK_AHEAD = 200;
+
+    // The value of a lane with a negative collectible ahead.
+    static final int AVOID = -1;
+
+    /**
+     * Returns the touch to give to the simulation before its next step.
+     *
+     * @param simulation the simulation being played
+     * @return TOUCH_LEFT or TOUCH_RIGHT to move the character, TOUCH_NONE to keep running in the lane
+     */
+    public int decide(RunSimulation simulation) {
+        if (simulation.isChangingLane()) {
+            return RunSimulation.TOUCH_NONE;
+        }
+        int current = simulation.getPlayerLane();
+        int target = current;
+        int best = laneValue(simulation, current);
+        // The lanes next to the character first, so that a lane two steps away has to be clearly better.
+        for (int distance = 1; distance <= 2; distance++) {
+            for (int l = current - distance; l <= current + distance; l += distance * 2) {
+                if (l < 0 || l > 2) {
+                    continue;
+                }
+                int value = laneValue(simulation, l);
+                // The lane in between must not have a negative collectible on the way.
+                if (value > best && (distance == 1 || laneValue(simulation, (current + l) / 2) != AVOID)) {
+                    best = value;
+                    target = l;
+                }
+            }
+        }
+        if (target < current) {
+            return RunSimulation.TOUCH_LEFT;
+        }
+        if (target > current) {
+            return RunSimulation.TOUCH_RIGHT;
+        }
+        return RunSimulation.TOUCH_NONE;
+    }
+
+    /**
+     * Returns the value of the next collectible of the lane within LOOK_AHEAD.
+     *
+     * @param simulation the simulation being played
+     * @param lane       the lane
+     * @return AVOID for a negative collectible, its reward for a positive one and 0 for no collectible
+     */
+    private int laneValue(RunSimulation simulation, int lane) {
+        CollectibleStore store = simulation.getStore();
+        float playerY = simulation.getPlayerY();
+        int slot = store.findAbove(lane, playerY);
+        if (slot == -1 || store.y[slot] > playerY + RunSimulation.PLAYER_HIT_HEIGHT + LOOK_AHEAD) {
+            return 0;
+        }
+        CollectibleKind kind = simulation.getKind(store.type[slot]);
+        if (kind.lives < 0) {
+            return AVOID;
+        }
+        return kind.reward;
+    }
+}
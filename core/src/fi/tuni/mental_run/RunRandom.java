@@ -0,0 +1,85 @@
+package fi.tuni.mental_run;
+
+/**
+ * RunRandom is the random number generator of one run.
+ * <p>
+ * Every random choice of a run, the first collectible, the lanes and the spawn gaps, is made with the run's
+ * own RunRandom, so two runs with the same seed and the same input are identical.
+ * The generator is a xorshift64* generator whose state is the seed mixed with the SplitMix64 finalizer,
+ * so also small and similar seeds give unrelated sequences. It is fast, allocation-free and
+ * behaves the same on every platform.
+ */
+public class RunRandom {
+    // The largest seed given by newSeed, so that seeds stay short enough to be read off the screen and typed in.
+    static final long MAX_SEED = Integer.MAX_VALUE;
+
+    long state;
+
+    /**
+     * Creates a generator.
+     *
+     * @param seed the seed of the run
+     */
+    public RunRandom(long seed) {
+        state = mix(seed);
+        // xorshift never leaves the zero state.
+        if (state == 0) {
+            state = 0x9E3779B97F4A7C15L;
+        }
+    }
+
+    /**
+     * Returns a new seed between 1 and MAX_SEED.
+     *
+     * @return the seed
+     */
+    public static long newSeed() {
+        return 1 + (mix(System.nanoTime()) >>> 1) % MAX_SEED;
+    }
+
+    /**
+     * The SplitMix64 finalizer.
+     */
+    static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the next 64 random bits.
+     *
+     * @return the random bits
+     */
+    public long nextLong() {
+        long x = state;
+        x ^= x >>> 12;
+        x ^= x << 25;
+        x ^= x >>> 27;
+        state = x;
+        return x * 0x2545F4914F6CDD1DL;
+    }
+
+    /**
+     * Returns a random number between 0 (inclusive) and the bound (exclusive).
+     *
+     * @param bound a positive bound
+     * @return the random number
+     */
+    public int nextInt(int bound) {
+        // The upper 31 bits scaled to the bound.
+        return (int) (((nextLong() >>> 33) * bound) >>> 31);
+    }
+
+    /**
+     * Returns a random number between start and end, both inclusive, like MathUtils.random(int, int).
+     *
+     * @param start the smallest number
+     * @param end   the largest number
+     * @return the random number
+     */
+    public int random(int start, int end) {
+        return start + nextInt(end - start + 1);
+    }
+}
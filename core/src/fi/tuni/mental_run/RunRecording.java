@@ -0,0 +1,203 @@
+package fi.tuni.mental_run;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * RunRecording is the input of one run: the level, the seed and every touch with the step it was handled on.
+ * <p>
+ * Because a RunSimulation with the same level and seed given the same touches on the same steps plays
+ * the same run, a recording is enough to play a run again, on the screen by Run at real speed or
+ * without a screen by the headless simulation runner as fast as possible.
+ * <p>
+ * Run records every run and saves it in LAST_RUN when the run ends. The file starts with MAGIC,
+ * VERSION, the level number, the seed and the number of steps played. Each touch is then one varint
+ * of the steps since the previous touch shifted left by two bits and the side of the touch in the low bits,
+ * so a touch usually takes one or two bytes.
+ */
+public class RunRecording {
+    // "MRRC", Mental Run recording.
+    static final int MAGIC = 0x4D525243;
+    static final int VERSION = 2;
+
+    // The recording of the latest run, in local storage.
+    public static final String LAST_RUN = "recordings/last_run.mrr";
+
+    // The number of touches the recording has room for before it grows.
+    static final int INITIAL_TOUCHES = 1024;
+
+    // Returned by next when there is no touch on the step.
+    public static final int NO_TOUCH = -1;
+
+    final Level level;
+    final long seed;
+
+    // The number of steps in the run, set when the run ends.
+    int steps;
+
+    // The touches as the step shifted left by two bits and the side in the low bits, in step order.
+    // Room for the touches of a long run is reserved up front, so recording a touch does not allocate.
+    final IntArray touches = new IntArray(INITIAL_TOUCHES);
+
+    // The next touch to replay.
+    int cursor;
+
+    /**
+     * Creates an empty recording.
+     *
+     * @param level the level of the run
+     * @param seed  the seed of the run
+     */
+    public RunRecording(Level level, long seed) {
+        this.level = level;
+        this.seed = seed;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getSteps() {
+        return steps;
+    }
+
+    /**
+     * Records a touch given to the simulation before the given step.
+     * Several touches before the same step are all kept in their order.
+     *
+     * @param step the number of steps simulated when the touch was given
+     * @param side the side of the touch
+     */
+    public void record(int step, int side) {
+        touches.add(step << 2 | side);
+    }
+
+    /**
+     * Marks the end of the run.
+     *
+     * @param steps the number of steps simulated in the run
+     */
+    public void end(int steps) {
+        this.steps = steps;
+    }
+
+    /**
+     * Returns the next recorded touch to give before the given step. The steps are asked for in order,
+     * and each step until NO_TOUCH is returned.
+     *
+     * @param step the number of steps simulated
+     * @return the side of the touch, or NO_TOUCH when the step has no more touches
+     */
+    public int next(int step) {
+        if (cursor < touches.size && touches.get(cursor) >>> 2 == step) {
+            return touches.get(cursor++) & 3;
+        }
+        return NO_TOUCH;
+    }
+
+    /**
+     * Starts the replay from the beginning.
+     */
+    public void rewind() {
+        cursor = 0;
+    }
+
+    /**
+     * Writes the recording into the file.
+     *
+     * @param file the file
+     */
+    public void save(FileHandle file) {
+        DataOutputStream output = null;
+        try {
+            output = new DataOutputStream(file.write(false, 4096));
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+            output.writeByte(level.number);
+            output.writeLong(seed);
+            writeVarint(output, steps);
+            writeVarint(output, touches.size);
+            int previous = 0;
+            for (int i = 0; i < touches.size; i++) {
+                int step = touches.get(i) >>> 2;
+                writeVarint(output, (step - previous) << 2 | touches.get(i) & 3);
+                previous = step;
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Error writing " + file, e);
+        } finally {
+            StreamUtils.closeQuietly(output);
+        }
+    }
+
+    /**
+     * Reads a recording from the file.
+     *
+     * @param file the file
+     * @return the recording
+     */
+    public static RunRecording load(FileHandle file) {
+        DataInputStream input = null;
+        try {
+            input = new DataInputStream(file.read(4096));
+            if (input.readInt() != MAGIC || input.readByte() != VERSION) {
+                throw new GdxRuntimeException("Not a run recording: " + file);
+            }
+            int number = input.readByte();
+            // Level.get would play an unknown level as level 1.
+            if (number < 1 || number > 3) {
+                throw new GdxRuntimeException("Unknown level " + number + " in run recording: " + file);
+            }
+            RunRecording recording = new RunRecording(Level.get(number), input.readLong());
+            recording.steps = readVarint(input);
+            int count = readVarint(input);
+            recording.touches.ensureCapacity(count);
+            int step = 0;
+            for (int i = 0; i < count; i++) {
+                int touch = readVarint(input);
+                step += touch >>> 2;
+                recording.touches.add(step << 2 | touch & 3);
+            }
+            return recording;
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Error reading " + file, e);
+        } finally {
+            StreamUtils.closeQuietly(input);
+        }
+    }
+
+    /**
+     * Writes a non-negative int in seven bit groups, the lowest first, the high bit set if more follow.
+     */
+    private static void writeVarint(DataOutputStream output, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            output.writeByte(value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte(value);
+    }
+
+    /**
+     * Reads an int written by writeVarint.
+     */
+    private static int readVarint(DataInputStream input) throws IOException {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = input.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+}
@@ -0,0 +1,556 @@
+package fi.tuni.mental_run;
+
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * RunSimulation is the gameplay of one run without any drawing.
+ * <p>
+ * It moves the character and the camera upwards, loops the map, spawns the collectibles, moves the character
+ * between the lanes and handles the collisions, one step of Run.TIME_STEP at a time.
+ * It uses no textures, GL or other libGDX services, so the same runs can be simulated without a screen,
+ * for example by the headless simulation runner. Run draws the state of its RunSimulation and turns
+ * the player's touches into the sides given to touch.
+ * <p>
+ * The character's sideways movement is a small state machine: the lane the character is in, the lane
+ * it is heading to and its sideways velocity. A touch on the left or the right side moves the target lane
+ * by one, so a quick double tap crosses two lanes and a tap the other way turns the character back.
+ * Every step moves the character towards the target lane until it is reached.
+ * <p>
+ * Every random choice is made with the simulation's own RunRandom, so a simulation created with the same
+ * level and seed and given the same touches on the same steps always plays the same run.
+ */
+public class RunSimulation {
+    // The sides of the screen for touch.
+    public static final int TOUCH_NONE = 0;
+    public static final int TOUCH_LEFT = 1;
+    public static final int TOUCH_RIGHT = 2;
+
+    // The maximum number of collectibles on the map at once.
+    static final int MAX_COLLECTIBLES = 64;
+
+    // The same sizes and positions as in GameProject and Player.
+    // PLAYER_HIT_HEIGHT is the height of the character's hitbox, the sprite bounds of Player,
+    // which are half of Player.PLAYER_HEIGHT.
+    static final int WINDOW_WIDTH = 288;
+    static final int WINDOW_HEIGHT = 480;
+    static final int TILE_WIDTH = 32;
+    static final int TILE_HEIGHT = 32;
+    static final int PLAYER_WIDTH = 36;
+    static final int PLAYER_HIT_HEIGHT = 32;
+    static final int PLAYER_SPEED_X = 4;
+    static final int STARTING_POSITION_X = WINDOW_WIDTH / 2 - PLAYER_WIDTH / 2;
+    static final int STARTING_POSITION_Y = 5;
+    static final int FAR_LEFT = WINDOW_WIDTH / 2 - TILE_WIDTH * 2 - TILE_WIDTH / 2 + 4;
+    static final int FAR_RIGHT = WINDOW_WIDTH / 2 + TILE_WIDTH + TILE_WIDTH / 2 - 6 - 4;
+    static final int STEP_LEFT_POSITION = FAR_LEFT + 4;
+    static final int STEP_CENTER_POSITION = STARTING_POSITION_X;
+    static final int STEP_RIGHT_POSITION = FAR_RIGHT - 4;
+    static final int LEFT_SIDE_BORDER = TILE_WIDTH * 2;
+    static final int RIGHT_SIDE_BORDER = TILE_WIDTH * 7;
+
+    // The x coordinates of the character in the far left, center and far right lanes.
+    static final int[] LANE_POSITIONS = {STEP_LEFT_POSITION, STEP_CENTER_POSITION, STEP_RIGHT_POSITION};
+
+    /**
+     * Gets told about every collected collectible, for example to play its sound.
+     */
+    public interface Listener {
+        /**
+         * Called when the character has collected a collectible. The points and lives have already been changed.
+         *
+         * @param kind the kind of the collectible
+         */
+        void collected(CollectibleKind kind);
+    }
+
+    public final Level level;
+    public final long seed;
+    final RunRandom random;
+
+    Listener listener;
+
+    // The character's position and upwards speed. The camera always moves at the character's speed.
+    float playerX = STARTING_POSITION_X;
+    float playerY = STARTING_POSITION_Y;
+    int playerSpeedY = 1;
+    float cameraY = WINDOW_HEIGHT / 2;
+
+    // The positions of the character and the camera before the latest step, moved along with the map loop.
+    // Run draws between these and the current positions.
+    float previousPlayerX = playerX;
+    float previousPlayerY = playerY;
+    float previousCameraY = cameraY;
+
+    int points;
+    int lives = 3;
+
+    // The number of steps simulated.
+    int steps;
+
+    // Defines the y coordinate for new collectibles.
+    int collectibleYPos = (int) playerY - STARTING_POSITION_Y + WINDOW_HEIGHT;
+
+    // The kinds of collectibles of the level, followed by the special collectible.
+    // The types of the collectibles in store are indexes to this table.
+    final CollectibleKind[] kinds;
+    final int specialCollectibleType;
+
+    // The collectibles on the map.
+    final CollectibleStore store;
+
+    // Spawns the types of collectibles by the distance travelled.
+    final SpawnScheduler spawnScheduler;
+
+    // The distance the character has travelled during the run, the map loops included.
+    float distance;
+
+    // True if the special collectible has been due before the player reached the part of the map where it appears.
+    boolean specialCollectibleWaiting;
+
+    // The lane state machine of the character control.
+    // playerLane is the lane the character was last in, targetLane the lane it is heading to
+    // and velocityX its sideways movement per step: 0, PLAYER_SPEED_X or -PLAYER_SPEED_X.
+    int playerLane = 1;
+    int targetLane = 1;
+    int velocityX;
+
+    // Used in controlling the character acceleration and the special collectibles.
+    boolean initialLoopDone;
+
+    // The steps left of the speed change of the latest collected collectible, and the size of that change.
+    int effectDuration;
+    int effectSpeedChange;
+
+    // If true, the speed change has been taken off the kept speed.
+    boolean specialEffectActive;
+
+    // Increases character speed every loop.
+    // Used in mapLoop().
+    int loopSpeedYIncrease = 0;
+
+    // The looping part of the map in pixels.
+    final int loopStart;
+    final int loopAmount;
+
+    // Keeps track of how much playerY had exceeded loopStart + loopAmount when the map loop was executed.
+    // This value is used to compensate when it is defined where to set and draw
+    // the character, collectibles, points, lives and in-game buttons after the map loop.
+    float excessDistance = 0;
+
+    // The lane of the next collectible, 0 is the far left lane, 1 the center lane and 2 the far right lane.
+    int lane;
+
+    // The bounds of the character for the collision checks.
+    final Rectangle playerRectangle = new Rectangle();
+
+    /**
+     * Creates the simulation of a run and places the first collectible.
+     *
+     * @param level the level to play
+     * @param seed  the seed of the run
+     */
+    public RunSimulation(Level level, long seed) {
+        this.level = level;
+        this.seed = seed;
+        random = new RunRandom(seed);
+
+        loopStart = TILE_HEIGHT * level.loopStart;
+        loopAmount = TILE_HEIGHT * level.loopAmount;
+
+        specialCollectibleType = level.collectibles.length;
+        kinds = new CollectibleKind[specialCollectibleType + 1];
+        System.arraycopy(level.collectibles, 0, kinds, 0, specialCollectibleType);
+        kinds[specialCollectibleType] = CollectibleKind.SPECIAL;
+
+        // The + 2 corrects the difference between COLLECTIBLE_WIDTH (32) and PLAYER_WIDTH (36).
+        // It centralizes the collectibles on the character's line of run.
+        float[] laneX = {STEP_LEFT_POSITION + 2, STEP_CENTER_POSITION + 2, STEP_RIGHT_POSITION + 2};
+        store = new CollectibleStore(MAX_COLLECTIBLES, laneX, CollectibleKind.COLLECTIBLE_WIDTH, CollectibleKind.COLLECTIBLE_HEIGHT);
+
+        spawnScheduler = new SpawnScheduler(kinds.length);
+        addInitialCollectible();
+    }
+
+    /**
+     * Sets the listener that is told about the collected collectibles.
+     *
+     * @param listener the listener, or null
+     */
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Gives the simulation a touch. The target lane moves by one lane towards the touched side;
+     * the character starts moving on the next step.
+     *
+     * @param side TOUCH_LEFT or TOUCH_RIGHT for the sides of the screen that move the character,
+     *             TOUCH_NONE for anywhere else
+     */
+    public void touch(int side) {
+        if (side == TOUCH_LEFT && targetLane > 0) {
+            targetLane--;
+        } else if (side == TOUCH_RIGHT && targetLane < LANE_POSITIONS.length - 1) {
+            targetLane++;
+        }
+    }
+
+    /**
+     * Advances the run by one step.
+     */
+    public void step() {
+        previousPlayerX = playerX;
+        previousPlayerY = playerY;
+        previousCameraY = cameraY;
+
+        moveCamera();
+        movePlayerY();
+        mapLoop();
+
+        addCollectibles();
+        removeCollectibles();
+
+        // Moves the character towards the target lane.
+        movePlayerX();
+
+        checkCollisions();
+
+        reduceEffectDuration();
+
+        steps++;
+    }
+
+    /**
+     * Returns whether the run has ended.
+     *
+     * @return true when all the lives have been lost
+     */
+    public boolean isOver() {
+        return lives <= 0;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public int getSteps() {
+        return steps;
+    }
+
+    public float getPlayerX() {
+        return playerX;
+    }
+
+    public float getPlayerY() {
+        return playerY;
+    }
+
+    /**
+     * Returns the lane the character was last in.
+     *
+     * @return 0 for the far left lane, 1 for the center lane and 2 for the far right lane
+     */
+    public int getPlayerLane() {
+        return playerLane;
+    }
+
+    /**
+     * Returns the lane the character is heading to.
+     *
+     * @return 0 for the far left lane, 1 for the center lane and 2 for the far right lane
+     */
+    public int getTargetLane() {
+        return targetLane;
+    }
+
+    /**
+     * Returns the sideways velocity of the character, which also tells the animation sheet to use.
+     *
+     * @return the movement per step, negative to the left and positive to the right
+     */
+    public int getVelocityX() {
+        return velocityX;
+    }
+
+    /**
+     * Returns whether the character is moving between the lanes.
+     *
+     * @return true until the character has reached the target lane
+     */
+    public boolean isChangingLane() {
+        return playerX != LANE_POSITIONS[targetLane];
+    }
+
+    public CollectibleStore getStore() {
+        return store;
+    }
+
+    /**
+     * Returns the kind of the collectibles of the given type in the store.
+     *
+     * @param type a type in the store
+     * @return the kind
+     */
+    public CollectibleKind getKind(int type) {
+        return kinds[type];
+    }
+
+    /**
+     * Moves the camera upwards.
+     */
+    private void moveCamera() {
+        cameraY += playerSpeedY;
+    }
+
+    /**
+     * Moves the character upwards.
+     * <p>
+     * Also the character acceleration at the start of the run and at the level's speed-ups is implemented here.
+     */
+    private void movePlayerY() {
+        // Corrects the character y coordinate.
+        playerY += playerSpeedY;
+
+        // Corrects the y coordinate for new collectibles.
+        collectibleYPos += playerSpeedY;
+        distance += playerSpeedY;
+
+        // These if statements are checked if no speed change is in force.
+        // With a persistent speed they are only checked until the first map loop.
+        if (effectDuration <= 0 && !(level.persistentSpeed && initialLoopDone)) {
+            // Accelerates the character to constant speed in the beginning of the run.
+            if (playerY > 10) {
+                playerSpeedY = 2;
+            }
+            if (playerY > 30) {
+                playerSpeedY = 3;
+            }
+            if (playerY > 60) {
+                playerSpeedY = 4;
+            }
+
+            // Increases the character y speed at the level's speed-ups.
+            for (int i = 0; i < level.speedUps.length; i++) {
+                if (playerY > TILE_HEIGHT * level.speedUps[i] + STARTING_POSITION_Y) {
+                    playerSpeedY += level.speedUpAmount;
+                    // The map loops are counted in after the last speed-up.
+                    if (i == level.speedUps.length - 1) {
+                        playerSpeedY += loopSpeedYIncrease;
+                    }
+                }
+            }
+        }
+
+        // With a persistent speed, the speed change is added to the kept speed and taken back afterwards.
+        if (level.persistentSpeed) {
+            if (effectDuration > 0 && !specialEffectActive) {
+                playerSpeedY += effectSpeedChange;
+                specialEffectActive = true;
+            }
+            if (effectDuration <= 0 && specialEffectActive) {
+                playerSpeedY -= effectSpeedChange;
+                specialEffectActive = false;
+            }
+        }
+    }
+
+    /**
+     * Loops the character, collectibles and the camera. Looping is done so that the run can continue infinitely.
+     * <p>
+     * Also increases the character's upward speed every loop and keeps record of excessDistance,
+     * which is a variable that compensates differences between STARTING_POSITION_Y + loopStart + loopAmount
+     * and playerY at the moment in which the loop is initiated.
+     * The coordinate playerY varies because STARTING_POSITION_Y + loopStart + loopAmount
+     * is not always divisible with playerSpeedY.
+     */
+    private void mapLoop() {
+        if (playerY >= STARTING_POSITION_Y + loopStart + loopAmount) {
+            // Saves the excess distance traveled in a variable
+            // in case loopStart + loopAmount is not divisible by playerSpeedY.
+            excessDistance = playerY - (STARTING_POSITION_Y + loopStart + loopAmount);
+
+            // Increases character speed every map loop by 1.
+            if (effectDuration <= 0) {
+                if (level.persistentSpeed) {
+                    playerSpeedY += 1;
+                } else {
+                    loopSpeedYIncrease += 1;
+                }
+            }
+
+            // Loops the character.
+            float loopedY = STARTING_POSITION_Y + loopStart + excessDistance;
+            previousPlayerY += loopedY - playerY;
+            playerY = loopedY;
+
+            // Loops the collectibles on the map.
+            store.translateY(-loopAmount + excessDistance);
+
+            // Loops the vertical position of new collectibles.
+            collectibleYPos -= loopAmount - excessDistance;
+
+            // Sets the camera on every loop.
+            previousCameraY += loopStart + WINDOW_HEIGHT / 2 - cameraY;
+            cameraY = loopStart + WINDOW_HEIGHT / 2;
+
+            initialLoopDone = true;
+        }
+    }
+
+    /**
+     * Generates the lane for every collectible of the level and
+     * the special collectible every time one is spawned.
+     */
+    private void generateLane() {
+        // Randomly generates a horizontal position for new collectibles.
+        int xPos = random.random(LEFT_SIDE_BORDER, RIGHT_SIDE_BORDER);
+
+        // These if statements make the new collectibles to be drawn on three different lanes.
+        if (xPos <= 117) {
+            lane = 0;
+        } else if (xPos < 171) {
+            lane = 1;
+        } else {
+            lane = 2;
+        }
+    }
+
+    /**
+     * Adds a randomly chosen collectible to be the first collectible drawn on the screen
+     * and schedules the first spawn of every type.
+     * <p>
+     * The special collectible can not be the first collectible drawn.
+     */
+    private void addInitialCollectible() {
+        // Picks a random collectible of the level.
+        int first = random.random(0, specialCollectibleType - 1);
+
+        generateLane();
+        store.add(first, lane, collectibleYPos);
+        for (int i = 0; i < kinds.length; i++) {
+            scheduleSpawn(i);
+        }
+    }
+
+    /**
+     * Schedules the next spawn of the type a random spawn gap of the level ahead.
+     *
+     * @param type the index of the type in kinds
+     */
+    private void scheduleSpawn(int type) {
+        int[] gap = level.spawnGaps[type];
+        spawnScheduler.schedule(type, distance + random.random(gap[0], gap[1]));
+    }
+
+    /**
+     * Adds the collectibles whose spawn distance has been reached to the map.
+     * <p>
+     * The collectible is placed in a random lane at collectibleYPos, which is above every collectible on the map.
+     */
+    private void addCollectibles() {
+        while (spawnScheduler.isDue(distance)) {
+            int type = spawnScheduler.poll();
+            if (type == specialCollectibleType) {
+                // The special collectible waits until it can appear.
+                specialCollectibleWaiting = true;
+            } else {
+                addCollectible(type);
+            }
+        }
+        // Special collectibles appear once the player has reached the looping part of the map.
+        // If the whole map loops, they appear after the first loop.
+        if (specialCollectibleWaiting
+                && (initialLoopDone || loopStart > 0 && playerY > loopStart + STARTING_POSITION_Y)) {
+            specialCollectibleWaiting = false;
+            addCollectible(specialCollectibleType);
+        }
+    }
+
+    /**
+     * Adds a collectible of the type in a random lane unless it would overlap a collectible already on the map.
+     * The next spawn of the type is scheduled either way.
+     *
+     * @param type the index of the type in kinds
+     */
+    private void addCollectible(int type) {
+        generateLane();
+        if (!store.overlaps(lane, collectibleYPos)) {
+            store.add(type, lane, collectibleYPos);
+        }
+        scheduleSpawn(type);
+    }
+
+    /**
+     * Counts down the speed change of the latest collected collectible.
+     * <p>
+     * When effectDuration hits zero, the character will continue its run with the vertical speed it had before.
+     */
+    private void reduceEffectDuration() {
+        if (effectDuration > 0) {
+            effectDuration -= 1;
+        }
+    }
+
+    /**
+     * Removes the collectibles that have left the screen.
+     */
+    private void removeCollectibles() {
+        store.removeBelow(playerY - STARTING_POSITION_Y - store.height);
+    }
+
+    /**
+     * Checks for collisions between the character and the collectibles.
+     * <p>
+     * Every collision is handled by looking up the row of the collected kind in CollectibleKind:
+     * its reward is added to the points and its change in lives to the lives.
+     * A kind with a speed change, like the special collectible, changes the character's upwards speed
+     * for the given number of steps.
+     */
+    private void checkCollisions() {
+        playerRectangle.set(playerX, playerY, PLAYER_WIDTH, PLAYER_HIT_HEIGHT);
+        int i;
+        while ((i = store.findOverlap(playerRectangle)) != -1) {
+            CollectibleKind kind = kinds[store.type[i]];
+            points += kind.reward;
+            lives += kind.lives;
+            if (kind.speedChangeSteps > 0) {
+                effectDuration = kind.speedChangeSteps;
+                effectSpeedChange = kind.speedChange;
+                // With a persistent speed movePlayerY takes care of the change.
+                if (!level.persistentSpeed) {
+                    playerSpeedY += kind.speedChange;
+                }
+            }
+            store.remove(i);
+            if (listener != null) {
+                listener.collected(kind);
+            }
+        }
+    }
+
+    /**
+     * Moves the character sideways towards the target lane by PLAYER_SPEED_X.
+     * <p>
+     * When the character reaches the target lane it stops there and the lane becomes its current lane.
+     * A touch while the character is moving changes the target, so the character turns back or keeps going
+     * to the next lane without stopping.
+     */
+    private void movePlayerX() {
+        float targetX = LANE_POSITIONS[targetLane];
+        if (playerX < targetX) {
+            velocityX = PLAYER_SPEED_X;
+            playerX = Math.min(playerX + PLAYER_SPEED_X, targetX);
+        } else if (playerX > targetX) {
+            velocityX = -PLAYER_SPEED_X;
+            playerX = Math.max(playerX - PLAYER_SPEED_X, targetX);
+        }
+        if (playerX == targetX) {
+            velocityX = 0;
+            playerLane = targetLane;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package fi.tuni.mental_run;
+
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * ScreenManager changes the screens of the game and decides when they are disposed.
+ * <p>
+ * The lightweight menu screens, MainMenu, Settings, LevelSelectionMenu and HighScoresSelectionMenu,
+ * are created once and then reused. Every time the player comes back to one of them,
+ * it is reset with the current music and sound settings and the frame of the background animation.
+ * <p>
+ * Every other screen is disposed when the player leaves it. Because the screens change in the middle of
+ * the old screen's render, the old screen is only queued here and disposed by disposeScreens,
+ * which GameProject calls after the screen has finished rendering.
+ * The screens dispose only what they own. The shared batch and music are disposed by GameProject
+ * and the shared assets by Assets.
+ */
+public class ScreenManager {
+    GameProject host;
+
+    MainMenu mainMenu;
+    Settings settings;
+    LevelSelectionMenu levelSelectionMenu;
+    HighScoresSelectionMenu highScoresSelectionMenu;
+
+    // Screens that have been left during this frame.
+    Array<Screen> leftScreens = new Array<>();
+
+    /**
+     * Creates the screen manager of the game.
+     *
+     * @param host GameProject host
+     */
+    public ScreenManager(GameProject host) {
+        this.host = host;
+    }
+
+    /**
+     * Shows the main menu.
+     *
+     * @param musicOn   has info if music is toggled
+     * @param soundOn   has info if sounds are toggled
+     * @param statetime makes the screen draw the correct current frame of the animation
+     */
+    public void showMainMenu(boolean musicOn, boolean soundOn, float statetime) {
+        if (mainMenu == null) {
+            mainMenu = new MainMenu(host, musicOn, soundOn, host.menuBackgroundMusic, host.runBackgroundMusic, statetime);
+        } else {
+            mainMenu.reset(musicOn, soundOn, statetime);
+        }
+        show(mainMenu);
+    }
+
+    /**
+     * Shows the settings.
+     *
+     * @param musicOn   has info if music is toggled
+     * @param soundOn   has info if sounds are toggled
+     * @param statetime makes the screen draw the correct current frame of the animation
+     */
+    public void showSettings(boolean musicOn, boolean soundOn, float statetime) {
+        if (settings == null) {
+            settings = new Settings(host, musicOn, soundOn, host.menuBackgroundMusic, host.runBackgroundMusic, statetime);
+        } else {
+            settings.reset(musicOn, soundOn, statetime);
+        }
+        show(settings);
+    }
+
+    /**
+     * Shows the level selection menu.
+     *
+     * @param musicOn   has info if music is toggled
+     * @param soundOn   has info if sounds are toggled
+     * @param statetime makes the screen draw the correct current frame of the animation
+     */
+    public void showLevelSelectionMenu(boolean musicOn, boolean soundOn, float statetime) {
+        if (levelSelectionMenu == null) {
+            levelSelectionMenu = new LevelSelectionMenu(host, musicOn, soundOn, host.menuBackgroundMusic, host.runBackgroundMusic, statetime);
+        } else {
+            levelSelectionMenu.reset(musicOn, soundOn, statetime);
+        }
+        show(levelSelectionMenu);
+    }
+
+    /**
+     * Shows the high scores selection menu.
+     *
+     * @param musicOn   has info if music is toggled
+     * @param soundOn   has info if sounds are toggled
+     * @param statetime makes the screen draw the correct current frame of the animation
+     */
+    public void showHighScoresSelectionMenu(boolean musicOn, boolean soundOn, float statetime) {
+        if (highScoresSelectionMenu == null) {
+            highScoresSelectionMenu = new HighScoresSelectionMenu(host, musicOn, soundOn, host.menuBackgroundMusic, host.runBackgroundMusic, statetime);
+        } else {
+            highScoresSelectionMenu.reset(musicOn, soundOn, statetime);
+        }
+        show(highScoresSelectionMenu);
+    }
+
+    /**
+     * Shows the given screen. The current screen is disposed after this frame unless it is a cached menu.
+     *
+     * @param screen the screen to show
+     */
+    public void show(Screen screen) {
+        Screen current = host.getScreen();
+        host.setScreen(screen);
+        if (current != null && current != screen && !isCached(current) && !leftScreens.contains(current, true)) {
+            leftScreens.add(current);
+        }
+    }
+
+    /**
+     * Disposes the screens that have been left during this frame. Called in GameProject's render.
+     */
+    public void disposeScreens() {
+        for (Screen screen : leftScreens) {
+            // The player may have come back to the screen during the same frame.
+            if (screen != host.getScreen()) {
+                screen.dispose();
+            }
+        }
+        leftScreens.clear();
+    }
+
+    /**
+     * Returns whether the given screen is one of the cached menus.
+     *
+     * @param screen the screen
+     * @return true if the screen is reused instead of disposed
+     */
+    private boolean isCached(Screen screen) {
+        return screen == mainMenu || screen == settings || screen == levelSelectionMenu || screen == highScoresSelectionMenu;
+    }
+
+    /**
+     * Disposes the current screen and the cached menus. Called in GameProject's dispose.
+     */
+    public void dispose() {
+        disposeScreens();
+        Screen current = host.getScreen();
+        if (current != null && !isCached(current)) {
+            current.dispose();
+        }
+        if (mainMenu != null) {
+            mainMenu.dispose();
+        }
+        if (settings != null) {
+            settings.dispose();
+        }
+        if (levelSelectionMenu != null) {
+            levelSelectionMenu.dispose();
+        }
+        if (highScoresSelectionMenu != null) {
+            highScoresSelectionMenu.dispose();
+        }
+    }
+}
@@ -6,27 +6,34 @@ import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Align;
 
 /**
  * Settings is for implementing the settings menu.
  * <p>
- * Settings draws the background animation, the sound toggle and music toggle buttons,
+ * Settings draws the background animation, the graphics quality button, the sound toggle and music toggle buttons,
  * the info button and the ok button.
  * Settings also checks for user input for those buttons.
  * By tapping sound toggle or music toggle buttons you can determine if the sounds or music are played or not.
+ * Tapping the graphics quality button switches between the qualities of RenderTarget.
  * Info button takes you to Credits and ok button takes you back to MainMenu.
  * GameProject host is forwarded to both of these classes.
  * Extends GameProject.
- * Implements interface Screen.
+ * Implements interfaces Screen and RenderScheduler.OnDemand.
  *
  * @author Joni Mäkinen
  */
-public class Settings extends fi.tuni.mental_run.GameProject implements Screen {
+public class Settings extends fi.tuni.mental_run.GameProject implements Screen, RenderScheduler.OnDemand {
     MenuBackground menuBackground = new MenuBackground();
     Button button = new Button();
 
+    // The texts of the graphics quality button, indexed by the quality.
+    String[] qualityTexts = new String[RenderTarget.QUALITY_TEXTS.length];
+
     /**
      * A constructor for creating the settings menu.
+     * <p>
+     * Created once by ScreenManager, which resets it every time the player comes back to it.
      *
      * @param host                GameProject host
      * @param musicOn             has info if music is toggled
@@ -49,7 +56,10 @@ public class Settings extends fi.tuni.mental_run.GameProject implements Screen {
         // Camera width is WINDOW_WIDTH, camera height is WINDOW_HEIGHT.
         camera.setToOrtho(false, WINDOW_WIDTH, WINDOW_HEIGHT);
 
-        soundEffectPressButton = Gdx.audio.newSound(Gdx.files.internal("sound_effects/press_button.mp3"));
+        roboto = Assets.getFont(Assets.FONT);
+        for (int i = 0; i < qualityTexts.length; i++) {
+            qualityTexts[i] = getLevelText(RenderTarget.QUALITY_TEXTS[i]);
+        }
     }
 
     @Override
@@ -64,6 +74,7 @@ public class Settings extends fi.tuni.mental_run.GameProject implements Screen {
 
         batch.begin();
         batch.draw(menuBackground.currentFrame, menuBackground.menuBackgroundRectangle.x, menuBackground.menuBackgroundRectangle.y, WINDOW_WIDTH, WINDOW_HEIGHT);
+        roboto.draw(batch, qualityTexts[RenderTarget.getQuality()], button.qualityButtonRectangle.x, button.qualityButtonRectangle.y + button.qualityButtonRectangle.height - 5, button.qualityButtonRectangle.width, Align.center, false);
         if (soundOn) {
             batch.draw(button.soundOnButtonTexture, button.soundButtonRectangle.x, button.soundButtonRectangle.y, button.soundButtonRectangle.width, button.soundButtonRectangle.height);
         }
@@ -82,19 +93,37 @@ public class Settings extends fi.tuni.mental_run.GameProject implements Screen {
     }
 
     /**
-     * Checks for user input for the sound toggle, music toggle, info and ok buttons.
+     * Returns the time until the background animation changes its frame. The screen is rendered on demand.
+     *
+     * @return the time in seconds
+     */
+    @Override
+    public float getTimeToNextChange() {
+        return menuBackground.getTimeToNextFrame(statetime);
+    }
+
+    /**
+     * Checks for user input for the graphics quality, sound toggle, music toggle, info and ok buttons.
      */
     public void checkInput() {
         if (Gdx.input.justTouched()) {
             touchPos = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-            camera.unproject(touchPos);
+            RenderTarget.unproject(camera, touchPos);
+
+            // Checks input for the graphics quality button.
+            if (button.qualityButtonRectangle.contains(touchPos.x, touchPos.y)) {
+                if (soundOn) {
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
+                }
+                RenderTarget.setQuality((RenderTarget.getQuality() + 1) % qualityTexts.length);
+            }
 
             // Checks input for the sound toggle button.
             if (button.soundButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
                     soundOn = false;
                 } else {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                     soundOn = true;
                 }
             }
@@ -102,7 +131,7 @@ public class Settings extends fi.tuni.mental_run.GameProject implements Screen {
             // Checks input for the music toggle button.
             if (button.musicButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                     if (!musicOn) {
                         menuBackgroundMusic.play();
                         menuBackgroundMusic.setLooping(true);
@@ -127,19 +156,19 @@ public class Settings extends fi.tuni.mental_run.GameProject implements Screen {
             // Checks input for the info button.
             if (button.infoButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
                 // Takes you to Credits.
-                host.setScreen(new Credits(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, statetime));
+                host.screenManager.show(new Credits(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, statetime));
             }
 
             // Checks input for the ok button.
             if (button.okButtonRectangle.contains(touchPos.x, touchPos.y)) {
                 if (soundOn) {
-                    soundEffectPressButton.play();
+                    SoundManager.play(SoundManager.Effect.PRESS_BUTTON);
                 }
                 // Takes you to MainMenu.
-                host.setScreen(new MainMenu(host, musicOn, soundOn, menuBackgroundMusic, runBackgroundMusic, statetime));
+                host.screenManager.showMainMenu(musicOn, soundOn, statetime);
             }
         }
     }
@@ -156,17 +185,6 @@ public class Settings extends fi.tuni.mental_run.GameProject implements Screen {
 
     @Override
     public void dispose() {
-        batch.dispose();
-
-        menuBackgroundMusic.dispose();
-        soundEffectPressButton.dispose();
-
-        menuBackground.menuBackgroundSheet.dispose();
-        button.soundOnButtonTexture.dispose();
-        button.soundOffButtonTexture.dispose();
-        button.musicOnButtonTexture.dispose();
-        button.musicOnButtonTexture.dispose();
-        button.infoButtonTexture.dispose();
-        button.okButtonTexture.dispose();
+
     }
 }
\ No newline at end of file
@@ -0,0 +1,276 @@
+package fi.tuni.mental_run;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Sound;
+
+/**
+ * SoundManager plays the sound effects of the game.
+ * <p>
+ * Every effect is loaded once through the shared AssetManager of Assets when the game starts and stays
+ * loaded until the game is disposed. If the convertSounds Gradle task has converted the effects into OGG,
+ * the .ogg files are loaded instead of the MP3s, which are slower to decode.
+ * <p>
+ * Each effect has a limit of voices that can play at the same time. When the limit is reached, the oldest
+ * voice of the effect is stopped. The collectible effects also share a group in which only one voice can
+ * play at a time, so a new pickup cuts off the sound of the previous one.
+ * <p>
+ * play and stop only add a command to a queue and never call the mixer themselves, so they can be called from
+ * any thread. On Android the commands are run by an audio worker thread. Other backends do not allow playing
+ * sounds outside the render thread, so there the queue is run by update, which GameProject calls every frame.
+ */
+public class SoundManager {
+    /**
+     * The sound effects of the game.
+     */
+    public enum Effect {
+        PRESS_BUTTON("press_button", 4, false),
+        COUNTDOWN_321("countdown321", 1, false),
+        COUNTDOWN_GO("countdown_go", 1, false),
+        SPECIAL_COLLECTIBLE("special_collectible", 1, true),
+        COLLECTIBLE_POSITIVE("collectible_positive", 1, true),
+        COLLECTIBLE_NEGATIVE("collectible_negative", 1, true),
+        MADE_IT("made_it", 1, false),
+        DID_NOT_MAKE_IT("did_not_make_it", 1, false);
+
+        final String name;
+        final int maxVoices;
+        // Playing an effect of the collectible group stops the other effects of the group.
+        final boolean collectible;
+
+        Effect(String name, int maxVoices, boolean collectible) {
+            this.name = name;
+            this.maxVoices = maxVoices;
+            this.collectible = collectible;
+        }
+    }
+
+    static final String SOUND_EFFECTS = "sound_effects/";
+
+    static final int PLAY = 0;
+    static final int STOP = 1;
+
+    // The capacity of the command queue. Commands that do not fit are dropped.
+    static final int QUEUE_SIZE = 64;
+
+    private static final Effect[] EFFECTS = Effect.values();
+
+    private static final Object lock = new Object();
+    private static final int[] commands = new int[QUEUE_SIZE];
+    private static final Effect[] commandEffects = new Effect[QUEUE_SIZE];
+    private static int head;
+    private static int size;
+
+    // Only touched by the thread that runs the commands.
+    private static Sound[] sounds;
+    private static long[][] voices;
+    private static int[] oldestVoice;
+    private static int[] voiceCount;
+
+    private static Thread worker;
+    private static boolean running;
+
+    /**
+     * Loads the sound effects and starts the audio worker on Android. Called in GameProject's create.
+     */
+    public static void load() {
+        AssetManager manager = Assets.getManager();
+        String[] fileNames = new String[EFFECTS.length];
+        for (int i = 0; i < EFFECTS.length; i++) {
+            fileNames[i] = getFile(EFFECTS[i]);
+            // SoundManager keeps its own reference, so the effects are never unloaded between the screens.
+            manager.load(fileNames[i], Sound.class);
+        }
+        manager.finishLoading();
+
+        sounds = new Sound[EFFECTS.length];
+        voices = new long[EFFECTS.length][];
+        oldestVoice = new int[EFFECTS.length];
+        voiceCount = new int[EFFECTS.length];
+        for (int i = 0; i < EFFECTS.length; i++) {
+            sounds[i] = manager.get(fileNames[i], Sound.class);
+            voices[i] = new long[EFFECTS[i].maxVoices];
+        }
+
+        if (Gdx.app.getType() == Application.ApplicationType.Android) {
+            running = true;
+            worker = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    runCommands();
+                }
+            }, "SoundManager");
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    /**
+     * Returns the internal path of the effect, preferring the OGG file converted at build time.
+     *
+     * @param effect the effect
+     * @return the internal path of the sound file
+     */
+    private static String getFile(Effect effect) {
+        String fileName = SOUND_EFFECTS + effect.name + ".ogg";
+        if (!Gdx.files.internal(fileName).exists()) {
+            fileName = SOUND_EFFECTS + effect.name + ".mp3";
+        }
+        return fileName;
+    }
+
+    /**
+     * Queues the given effect to be played.
+     *
+     * @param effect the effect to play
+     */
+    public static void play(Effect effect) {
+        queue(PLAY, effect);
+    }
+
+    /**
+     * Queues all voices of the given effect to be stopped.
+     *
+     * @param effect the effect to stop
+     */
+    public static void stop(Effect effect) {
+        queue(STOP, effect);
+    }
+
+    private static void queue(int command, Effect effect) {
+        synchronized (lock) {
+            if (size == QUEUE_SIZE) {
+                return;
+            }
+            int index = (head + size) % QUEUE_SIZE;
+            commands[index] = command;
+            commandEffects[index] = effect;
+            size++;
+            lock.notify();
+        }
+        // Without the worker the sound is played on the next frame, which a menu would not render until it changes.
+        if (worker == null) {
+            RenderScheduler.requestFrame();
+        }
+    }
+
+    /**
+     * Runs the queued commands on the render thread. Does nothing on Android, where the worker runs them.
+     */
+    public static void update() {
+        if (worker == null && sounds != null) {
+            while (runNext(false)) {
+            }
+        }
+    }
+
+    /**
+     * The loop of the audio worker. Waits for commands until dispose stops the worker.
+     */
+    private static void runCommands() {
+        while (runNext(true)) {
+        }
+    }
+
+    /**
+     * Takes the next command from the queue and runs it.
+     *
+     * @param wait whether to wait for a command if the queue is empty
+     * @return false if there was no command to run
+     */
+    private static boolean runNext(boolean wait) {
+        int command;
+        Effect effect;
+        synchronized (lock) {
+            while (size == 0) {
+                if (!wait || !running) {
+                    return false;
+                }
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    return false;
+                }
+            }
+            command = commands[head];
+            effect = commandEffects[head];
+            commandEffects[head] = null;
+            head = (head + 1) % QUEUE_SIZE;
+            size--;
+        }
+        if (command == PLAY) {
+            if (effect.collectible) {
+                for (Effect other : EFFECTS) {
+                    if (other.collectible && other != effect) {
+                        stopVoices(other);
+                    }
+                }
+            }
+            playVoice(effect);
+        } else {
+            stopVoices(effect);
+        }
+        return true;
+    }
+
+    /**
+     * Plays a new voice of the effect, stopping the oldest voice first if the effect is at its limit.
+     *
+     * @param effect the effect to play
+     */
+    private static void playVoice(Effect effect) {
+        int i = effect.ordinal();
+        long[] effectVoices = voices[i];
+        if (voiceCount[i] == effectVoices.length) {
+            sounds[i].stop(effectVoices[oldestVoice[i]]);
+            oldestVoice[i] = (oldestVoice[i] + 1) % effectVoices.length;
+            voiceCount[i]--;
+        }
+        long id = sounds[i].play();
+        if (id != -1) {
+            effectVoices[(oldestVoice[i] + voiceCount[i]) % effectVoices.length] = id;
+            voiceCount[i]++;
+        }
+    }
+
+    /**
+     * Stops all voices of the effect.
+     *
+     * @param effect the effect to stop
+     */
+    private static void stopVoices(Effect effect) {
+        int i = effect.ordinal();
+        if (voiceCount[i] > 0) {
+            sounds[i].stop();
+            voiceCount[i] = 0;
+            oldestVoice[i] = 0;
+        }
+    }
+
+    /**
+     * Stops the audio worker and drops the references to the effects. Called in GameProject's dispose
+     * before Assets is disposed.
+     */
+    public static void dispose() {
+        synchronized (lock) {
+            running = false;
+            size = 0;
+            lock.notify();
+        }
+        if (worker != null) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+        if (sounds != null) {
+            for (Effect effect : EFFECTS) {
+                Assets.unload(getFile(effect));
+            }
+            sounds = null;
+        }
+    }
+}
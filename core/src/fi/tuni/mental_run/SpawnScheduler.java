@@ -0,0 +1,96 @@
+package fi.tuni.mental_run;
+
+/**
+ * SpawnScheduler tells Run when each type of collectible is spawned next.
+ * <p>
+ * Every type has the distance travelled at which it is spawned next. The types are kept in a binary min-heap
+ * ordered by that distance, so finding out that nothing is due only looks at the top of the heap and
+ * the work is only done when a spawn is due. No memory is allocated after the scheduler has been created.
+ */
+public class SpawnScheduler {
+    // The types in the heap. The type with the smallest spawn distance is first.
+    final int[] heap;
+    int size;
+
+    // The spawn distance of each type.
+    final float[] spawnDistance;
+
+    /**
+     * Creates an empty scheduler.
+     *
+     * @param types the number of types of collectibles
+     */
+    public SpawnScheduler(int types) {
+        heap = new int[types];
+        spawnDistance = new float[types];
+    }
+
+    /**
+     * Schedules a type that is not in the scheduler.
+     *
+     * @param type     the index of the type
+     * @param distance the distance travelled at which the type is spawned
+     */
+    public void schedule(int type, float distance) {
+        spawnDistance[type] = distance;
+        int i = size++;
+        // Moves the type up until its parent is due before it.
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (spawnDistance[heap[parent]] <= distance) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = type;
+    }
+
+    /**
+     * Returns whether a type is due at the given distance.
+     *
+     * @param distance the distance travelled
+     * @return true if poll returns a type that is due
+     */
+    public boolean isDue(float distance) {
+        return size > 0 && spawnDistance[heap[0]] <= distance;
+    }
+
+    /**
+     * Takes the type that is due first out of the scheduler.
+     *
+     * @return the index of the type
+     */
+    public int poll() {
+        int first = heap[0];
+        int last = heap[--size];
+        float lastDistance = spawnDistance[last];
+        int i = 0;
+        // Moves the last type down from the top until both of its children are due after it.
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && spawnDistance[heap[child + 1]] < spawnDistance[heap[child]]) {
+                child++;
+            }
+            if (lastDistance <= spawnDistance[heap[child]]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        if (size > 0) {
+            heap[i] = last;
+        }
+        return first;
+    }
+
+    /**
+     * Removes every type from the scheduler.
+     */
+    public void clear() {
+        size = 0;
+    }
+}
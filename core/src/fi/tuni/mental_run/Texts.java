@@ -0,0 +1,95 @@
+package fi.tuni.mental_run;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.PropertiesUtils;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Locale;
+import java.util.MissingResourceException;
+
+/**
+ * Texts is the process-wide table of the translatable texts.
+ * <p>
+ * The LangBundle properties files are read once, on the first lookup.
+ * The default file is read first and the files of the device's language and country are read on top of it,
+ * so the table holds the final text of every key and a lookup is a single map read.
+ * The table is not modified after it has been built.
+ */
+public class Texts {
+    static final String BUNDLE = "LangBundle";
+
+    private static volatile ObjectMap<String, String> table;
+
+    /**
+     * Returns the text that corresponds with the given key in the device's language.
+     *
+     * @param key String that corresponds with a translation
+     * @return the translated text
+     */
+    public static String get(String key) {
+        String text = getTable().get(key);
+        if (text == null) {
+            throw new MissingResourceException("Can't find bundle key " + key, BUNDLE, key);
+        }
+        return text;
+    }
+
+    /**
+     * Returns the table, building it on first use.
+     *
+     * @return the shared table
+     */
+    private static ObjectMap<String, String> getTable() {
+        ObjectMap<String, String> table = Texts.table;
+        if (table == null) {
+            table = load(Locale.getDefault());
+            Texts.table = table;
+        }
+        return table;
+    }
+
+    /**
+     * Builds the table for the given locale.
+     *
+     * @param locale the locale whose texts are read on top of the default texts
+     * @return a new table
+     */
+    static ObjectMap<String, String> load(Locale locale) {
+        ObjectMap<String, String> table = new ObjectMap<>();
+        read(table, BUNDLE);
+        if (!locale.getLanguage().isEmpty()) {
+            read(table, BUNDLE + "_" + locale.getLanguage());
+            if (!locale.getCountry().isEmpty()) {
+                read(table, BUNDLE + "_" + locale.getLanguage() + "_" + locale.getCountry());
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Reads the given properties file into the table if the file exists.
+     *
+     * @param table the table to read into
+     * @param name  the name of the properties file without the extension
+     */
+    private static void read(ObjectMap<String, String> table, String name) {
+        FileHandle file = Gdx.files.internal(name + ".properties");
+        if (!file.exists()) {
+            return;
+        }
+        Reader reader = null;
+        try {
+            reader = file.reader("UTF-8");
+            PropertiesUtils.load(table, reader);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Error reading " + file, e);
+        } finally {
+            StreamUtils.closeQuietly(reader);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package fi.tuni.mental_run;
+
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.math.Vector3;
+
+/**
+ * TouchQueue keeps the touches of the screen until the screen handles them.
+ * <p>
+ * libGDX delivers every touch to the InputProcessor once before the frame is rendered, so unlike polling
+ * Gdx.input.justTouched() no touch is missed or seen twice, even if there are several touches between
+ * two frames. The touches are kept in a fixed ring of screen coordinates, so no memory is allocated.
+ * If the ring is full the oldest touch is dropped.
+ */
+public class TouchQueue extends InputAdapter {
+    static final int CAPACITY = 16;
+
+    final int[] x = new int[CAPACITY];
+    final int[] y = new int[CAPACITY];
+    int first;
+    int size;
+
+    @Override
+    public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+        if (size == CAPACITY) {
+            first = (first + 1) % CAPACITY;
+            size--;
+        }
+        int i = (first + size) % CAPACITY;
+        x[i] = screenX;
+        y[i] = screenY;
+        size++;
+        return true;
+    }
+
+    /**
+     * Takes the oldest touch out of the queue.
+     *
+     * @param touch set to the screen coordinates of the touch
+     * @return false if there were no touches
+     */
+    public boolean poll(Vector3 touch) {
+        if (size == 0) {
+            return false;
+        }
+        touch.set(x[first], y[first], 0);
+        first = (first + 1) % CAPACITY;
+        size--;
+        return true;
+    }
+
+    /**
+     * Drops every touch in the queue.
+     */
+    public void clear() {
+        first = 0;
+        size = 0;
+    }
+}
@@ -10,6 +10,17 @@ public class DesktopLauncher {
         LwjglApplicationConfiguration config = new LwjglApplicationConfiguration();
         config.width = 288;
         config.height = 480;
-        new LwjglApplication(new GameProject(), config);
+        GameProject game = new GameProject();
+        // --seed <seed> plays every run with the given seed.
+        // --replay <file> plays a run recording, for example recordings/last_run.mrr.
+        for (int i = 0; i < arg.length - 1; i++) {
+            if (arg[i].equals("--seed")) {
+                game.setLaunchSeed(Long.parseLong(arg[i + 1]));
+            }
+            if (arg[i].equals("--replay")) {
+                game.setReplayFile(arg[i + 1]);
+            }
+        }
+        new LwjglApplication(game, config);
     }
 }
@@ -0,0 +1,53 @@
+package fi.tuni.mental_run.desktop;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.tools.bmfont.BitmapFontWriter;
+
+import fi.tuni.mental_run.Assets;
+
+/**
+ * FontBaker bakes the font variants of the game into bitmap fonts at build time.
+ * <p>
+ * Every variant listed in Assets.FONTS is rasterized from font/Roboto.ttf with the same parameters
+ * the game would use at runtime and written as a .fnt file and PNG pages into android/assets/fonts.
+ * Assets loads the baked fonts if they exist, so no FreeType work is needed when the game runs.
+ * Run by the bakeFonts task in desktop/build.gradle with android/assets as the working directory.
+ */
+public class FontBaker extends ApplicationAdapter {
+    static final int PAGE_SIZE = 512;
+
+    @Override
+    public void create() {
+        FileHandle outputDir = Gdx.files.local(Assets.BAKED_FONTS);
+        outputDir.mkdirs();
+
+        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("font/Roboto.ttf"));
+        for (String fontName : Assets.FONTS) {
+            PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 2, false);
+            FreeTypeFontGenerator.FreeTypeFontParameter parameter = Assets.getFontParameters(fontName);
+            parameter.packer = packer;
+            FreeTypeFontGenerator.FreeTypeBitmapFontData data = generator.generateData(parameter);
+
+            BitmapFontWriter.FontInfo info = new BitmapFontWriter.FontInfo("Roboto", parameter.size);
+            // Keeps the line height and baseline identical to the font generated at runtime.
+            info.overrideMetrics(data);
+
+            String[] pages = BitmapFontWriter.writePixmaps(packer.getPages(), outputDir, fontName);
+            BitmapFontWriter.writeFont(data, pages, outputDir.child(fontName + ".fnt"), info, PAGE_SIZE, PAGE_SIZE);
+            packer.dispose();
+        }
+        generator.dispose();
+
+        Gdx.app.exit();
+    }
+
+    public static void main(String[] arg) {
+        new HeadlessApplication(new FontBaker());
+    }
+}
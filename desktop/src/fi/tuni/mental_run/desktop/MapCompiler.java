@@ -0,0 +1,128 @@
+package fi.tuni.mental_run.desktop;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.tiled.BaseTmxMapLoader;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.XmlReader;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import fi.tuni.mental_run.BinaryMapLoader;
+
+/**
+ * MapCompiler compiles the Tiled .tmx maps into the binary .tmb format read by BinaryMapLoader.
+ * <p>
+ * Each map given as an argument is written next to the original with the .tmb extension.
+ * Inline tilesets and external .tsx tilesets are both supported.
+ * Run by the compileMaps task in desktop/build.gradle with android/assets as the working directory.
+ */
+public class MapCompiler {
+    // Tiled's flip flags in the gids of the .tmx data.
+    static final int TMX_FLIP_HORIZONTALLY = 0x80000000;
+    static final int TMX_FLIP_VERTICALLY = 0x40000000;
+    static final int TMX_FLIP_DIAGONALLY = 0x20000000;
+    static final int TMX_GID_MASK = ~(TMX_FLIP_HORIZONTALLY | TMX_FLIP_VERTICALLY | TMX_FLIP_DIAGONALLY);
+
+    public static void main(String[] arg) throws IOException {
+        for (String fileName : arg) {
+            File tmx = new File(fileName);
+            File tmb = new File(tmx.getParentFile(), tmx.getName().substring(0, tmx.getName().lastIndexOf('.')) + BinaryMapLoader.EXTENSION);
+            compile(tmx, tmb);
+        }
+    }
+
+    /**
+     * Compiles one map.
+     *
+     * @param tmx the Tiled map
+     * @param tmb the compiled map to write
+     * @throws IOException if reading or writing fails
+     */
+    static void compile(File tmx, File tmb) throws IOException {
+        XmlReader xml = new XmlReader();
+        XmlReader.Element root = xml.parse(new FileHandle(tmx));
+        int width = root.getIntAttribute("width");
+        int height = root.getIntAttribute("height");
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmb)));
+        try {
+            out.writeInt(BinaryMapLoader.MAGIC);
+            out.writeShort(width);
+            out.writeShort(height);
+            out.writeShort(root.getIntAttribute("tilewidth"));
+            out.writeShort(root.getIntAttribute("tileheight"));
+
+            Array<XmlReader.Element> tilesets = root.getChildrenByName("tileset");
+            out.writeByte(tilesets.size);
+            for (XmlReader.Element tileset : tilesets) {
+                int firstGid = tileset.getIntAttribute("firstgid");
+                String imageDir = "";
+                String source = tileset.getAttribute("source", null);
+                if (source != null) {
+                    // An external tileset. Its image path is relative to the .tsx file.
+                    tileset = xml.parse(new FileHandle(new File(tmx.getParentFile(), source)));
+                    String sourceDir = new File(source).getParent();
+                    if (sourceDir != null) {
+                        imageDir = sourceDir + "/";
+                    }
+                }
+                XmlReader.Element offset = tileset.getChildByName("tileoffset");
+
+                writeString(out, tileset.getAttribute("name", ""));
+                writeString(out, imageDir + tileset.getChildByName("image").getAttribute("source"));
+                out.writeShort(firstGid);
+                out.writeShort(tileset.getIntAttribute("tilewidth"));
+                out.writeShort(tileset.getIntAttribute("tileheight"));
+                out.writeShort(tileset.getIntAttribute("spacing", 0));
+                out.writeShort(tileset.getIntAttribute("margin", 0));
+                out.writeShort(offset != null ? offset.getIntAttribute("x", 0) : 0);
+                out.writeShort(offset != null ? offset.getIntAttribute("y", 0) : 0);
+            }
+
+            Array<XmlReader.Element> layers = root.getChildrenByName("layer");
+            out.writeByte(layers.size);
+            for (XmlReader.Element layer : layers) {
+                writeString(out, layer.getAttribute("name", ""));
+                out.writeByte(layer.getIntAttribute("visible", 1));
+                out.writeFloat(layer.getFloatAttribute("opacity", 1.0f));
+
+                for (int id : BaseTmxMapLoader.getTileIds(layer, width, height)) {
+                    int gid = id & TMX_GID_MASK;
+                    if (gid > BinaryMapLoader.GID_MASK) {
+                        throw new IOException(tmx + ": gid " + gid + " does not fit the compiled format");
+                    }
+                    int cell = gid;
+                    if ((id & TMX_FLIP_HORIZONTALLY) != 0) {
+                        cell |= BinaryMapLoader.FLIP_HORIZONTALLY;
+                    }
+                    if ((id & TMX_FLIP_VERTICALLY) != 0) {
+                        cell |= BinaryMapLoader.FLIP_VERTICALLY;
+                    }
+                    if ((id & TMX_FLIP_DIAGONALLY) != 0) {
+                        cell |= BinaryMapLoader.FLIP_DIAGONALLY;
+                    }
+                    out.writeShort(cell);
+                }
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Writes a string as a short length followed by UTF-8 bytes.
+     *
+     * @param out   the stream to write to
+     * @param value the string
+     * @throws IOException if writing fails
+     */
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes("UTF-8");
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,230 @@
+package fi.tuni.mental_run;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.lang.management.ManagementFactory;
+
+import fi.tuni.mental_run.headless.StubGL20;
+
+/**
+ * AllocationGuard fails if a steady-state frame of a run or of the game over board allocates memory.
+ * <p>
+ * The real Run screen of every level is created without a screen, with StubGL20 as the GL, and rendered
+ * frame by frame at 60 frames per second. The autopilot plays the run through the screen's touch queue
+ * as if the player tapped the sides of the screen. After the warm-up frames every frame is measured with
+ * the allocated bytes of this thread from ThreadMXBean, first while the run goes on, then while it is paused
+ * and then while the game over board is shown. The frames that allocated are printed, and the exit status is 1 if there
+ * were more than the few frames in which the buffers of libGDX grow. Run by the checkAllocations task in headless/build.gradle with android/assets as the working
+ * directory. It is in the package of the game so that it can skip the countdown and end the run.
+ */
+public class AllocationGuard extends ApplicationAdapter {
+    static final float FRAME_TIME = 1 / 60f;
+    static final int WARMUP_FRAMES = 600;
+    static final int RUN_FRAMES = 1200;
+    static final int PAUSED_FRAMES = 300;
+    static final int GAME_OVER_FRAMES = 300;
+
+    // The number of allocating frames printed per phase.
+    static final int PRINTED_FRAMES = 10;
+
+    // The allocating frames allowed per phase. The font cache of libGDX grows once when a longer text
+    // than before is drawn, for example when the points get another digit, and a class may be loaded late.
+    // A frame that allocates does so every frame or on every collected item, far more often than this.
+    static final int GROWTH_FRAMES = 3;
+
+    // The screen coordinates of a tap on the left and on the right side, below the in-game buttons.
+    static final int LEFT_TAP_X = 10;
+    static final int RIGHT_TAP_X = 278;
+    static final int TAP_Y = 300;
+
+    final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // The thread of the application, which renders the frames. HeadlessApplication calls create on it.
+    long thread;
+
+    // The bytes a pair of measurements allocates by itself, subtracted from every frame.
+    long overhead;
+
+    int failedPhases;
+
+    /**
+     * MockGraphics with the size of the game window and a fixed frame time,
+     * so that the touches are unprojected and the animations run like on a device.
+     */
+    static class WindowGraphics extends MockGraphics {
+        @Override
+        public int getWidth() {
+            return 288;
+        }
+
+        @Override
+        public int getHeight() {
+            return 480;
+        }
+
+        @Override
+        public int getBackBufferWidth() {
+            return getWidth();
+        }
+
+        @Override
+        public int getBackBufferHeight() {
+            return getHeight();
+        }
+
+        @Override
+        public float getDeltaTime() {
+            return FRAME_TIME;
+        }
+    }
+
+    @Override
+    public void create() {
+        thread = Thread.currentThread().getId();
+        Gdx.gl = Gdx.gl20 = new StubGL20();
+        Gdx.graphics = new WindowGraphics();
+        overhead = measureOverhead();
+
+        GameProject game = new GameProject();
+        game.create();
+        for (int number = 1; number <= 3; number++) {
+            check(game, Level.get(number));
+        }
+
+        System.out.println(failedPhases == 0 ? "No steady-state frame allocated." : failedPhases + " phases allocated in steady state.");
+        System.exit(failedPhases == 0 ? 0 : 1);
+    }
+
+    /**
+     * Renders the run of the level and then its game over board, and checks that their frames do not allocate.
+     */
+    void check(GameProject game, Level level) {
+        Run run = new Run(game, true, true, game.menuBackgroundMusic, game.runBackgroundMusic, level, new LevelAssets(level.mapFileName).finishLoading());
+        run.show();
+        run.countdown.timer.cancel();
+        run.countdown.secondsLeft = 0;
+        run.countdown.completed = true;
+
+        RunAutopilot autopilot = new RunAutopilot();
+        Frames frames = new Frames("Level " + level.number + " run");
+        for (int i = 0; i < WARMUP_FRAMES + RUN_FRAMES && !run.simulation.isOver(); i++) {
+            long allocated = threads.getThreadAllocatedBytes(thread);
+            int side = autopilot.decide(run.simulation);
+            if (side == RunSimulation.TOUCH_LEFT) {
+                run.touchQueue.touchDown(LEFT_TAP_X, TAP_Y, 0, 0);
+            } else if (side == RunSimulation.TOUCH_RIGHT) {
+                run.touchQueue.touchDown(RIGHT_TAP_X, TAP_Y, 0, 0);
+            }
+            run.render(FRAME_TIME);
+            if (i >= WARMUP_FRAMES) {
+                frames.add(i, threads.getThreadAllocatedBytes(thread) - allocated - overhead);
+            }
+        }
+        frames.report();
+
+        // Pauses the run with the pause button, renders the frozen world and resumes the run.
+        // The first frame of the pause draws the world into the freeze frame and is not measured.
+        if (!run.simulation.isOver()) {
+            frames = new Frames("Level " + level.number + " paused");
+            tapPauseButton(run);
+            for (int i = 0; i < 1 + PAUSED_FRAMES; i++) {
+                long allocated = threads.getThreadAllocatedBytes(thread);
+                run.render(FRAME_TIME);
+                if (i >= 1) {
+                    frames.add(i, threads.getThreadAllocatedBytes(thread) - allocated - overhead);
+                }
+            }
+            frames.report();
+            tapPauseButton(run);
+            run.render(FRAME_TIME);
+        }
+
+        // Ends the run. The board is shown as without an internet connection, so no high scores are fetched.
+        // The first frames of the board are not measured.
+        run.gameOver = new GameOver() {
+            @Override
+            public boolean didIMakeIt(int levelVariable, int myPoints) {
+                noConnection = true;
+                return false;
+            }
+        };
+        run.gameOver.setSeed(run.seed);
+        run.simulation.lives = 0;
+        run.lives.setCounter(0);
+        frames = new Frames("Level " + level.number + " game over");
+        for (int i = 0; i < WARMUP_FRAMES + GAME_OVER_FRAMES; i++) {
+            long allocated = threads.getThreadAllocatedBytes(thread);
+            run.render(FRAME_TIME);
+            if (i >= WARMUP_FRAMES) {
+                frames.add(i, threads.getThreadAllocatedBytes(thread) - allocated - overhead);
+            }
+        }
+        frames.report();
+
+        run.hide();
+        run.dispose();
+    }
+
+    /**
+     * Taps the middle of the pause button of the run.
+     */
+    void tapPauseButton(Run run) {
+        Rectangle pause = run.button.pauseButtonRectangle;
+        run.touchQueue.touchDown((int) (pause.x + pause.width / 2), (int) (Gdx.graphics.getHeight() - pause.y - pause.height / 2), 0, 0);
+    }
+
+    /**
+     * Returns the bytes allocated by reading the allocated bytes twice.
+     */
+    long measureOverhead() {
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < 1000; i++) {
+            long allocated = threads.getThreadAllocatedBytes(thread);
+            overhead = Math.min(overhead, threads.getThreadAllocatedBytes(thread) - allocated);
+        }
+        return overhead;
+    }
+
+    /**
+     * The measured frames of one phase.
+     */
+    class Frames {
+        final String name;
+        int count;
+        int allocating;
+        long maxBytes;
+        final StringBuilder printed = new StringBuilder();
+
+        Frames(String name) {
+            this.name = name;
+        }
+
+        void add(int frame, long bytes) {
+            count++;
+            if (bytes <= 0) {
+                return;
+            }
+            if (allocating < PRINTED_FRAMES) {
+                printed.append("    frame ").append(frame).append(": ").append(bytes).append(" bytes\n");
+            }
+            allocating++;
+            maxBytes = Math.max(maxBytes, bytes);
+        }
+
+        void report() {
+            System.out.printf("%s: %d frames measured, %d allocated, at most %d bytes%n", name, count, allocating, maxBytes);
+            System.out.print(printed);
+            if (allocating > GROWTH_FRAMES || count == 0) {
+                failedPhases++;
+            }
+        }
+    }
+
+    public static void main(String[] arg) {
+        new HeadlessApplication(new AllocationGuard());
+    }
+}
@@ -0,0 +1,303 @@
+package fi.tuni.mental_run.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import fi.tuni.mental_run.Level;
+import fi.tuni.mental_run.RunAutopilot;
+import fi.tuni.mental_run.RunRandom;
+import fi.tuni.mental_run.RunRecording;
+import fi.tuni.mental_run.RunSimulation;
+
+/**
+ * SimulationRunner plays many seeded runs without a screen and reports how they went.
+ * <p>
+ * Every run is a RunSimulation of the level played by an input policy: the autopilot, random touches
+ * or no touches at all. The runs are spread over all the cores with a ForkJoinPool. For every level
+ * the distribution of the scores is printed together with the time and the memory allocated per step,
+ * measured per thread with ThreadMXBean. The seeds of the lowest and highest scores are printed too,
+ * so those runs can be played on the desktop with --seed.
+ * <p>
+ * Options: --runs N, --level L (all levels by default), --seed S, --max-steps M,
+ * --policy autopilot|random|none and --warmup N. Run by the simulate task in headless/build.gradle.
+ * <p>
+ * With --replay file the runner instead plays a RunRecording saved by the game --repeat N times as fast as
+ * it can, checks that every replay ends like the recorded run and reports the cost per step. This way
+ * the same run can be measured before and after a change.
+ */
+public class SimulationRunner extends ApplicationAdapter {
+    static final int LEVELS = 3;
+
+    // Ten minutes of TIME_STEP steps.
+    static final int DEFAULT_MAX_STEPS = 60 * 60 * 10;
+
+    // The runs played by a task before it is split.
+    static final int RUNS_PER_TASK = 16;
+
+    // The chance of a touch per step with the random policy, one in RANDOM_TOUCH_STEPS.
+    static final int RANDOM_TOUCH_STEPS = 30;
+
+    static final String AUTOPILOT = "autopilot";
+    static final String RANDOM = "random";
+    static final String NONE = "none";
+
+    int runs = 1000;
+    int level;
+    long seed = 1;
+    int maxSteps = DEFAULT_MAX_STEPS;
+    String policy = AUTOPILOT;
+    int warmup = 200;
+    String replayFile;
+    int repeat = 100;
+
+    /**
+     * The results of one level, one element per run.
+     */
+    static class Results {
+        final long[] seeds;
+        final int[] scores;
+        final int[] steps;
+        final long[] nanos;
+        final long[] bytes;
+
+        Results(int runs) {
+            seeds = new long[runs];
+            scores = new int[runs];
+            steps = new int[runs];
+            nanos = new long[runs];
+            bytes = new long[runs];
+        }
+    }
+
+    /**
+     * Plays the runs from start to end, or splits them in two halves for the pool.
+     */
+    class SimulationTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final Level runLevel;
+        final Results results;
+        final int start;
+        final int end;
+
+        SimulationTask(Level runLevel, Results results, int start, int end) {
+            this.runLevel = runLevel;
+            this.results = results;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > RUNS_PER_TASK) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new SimulationTask(runLevel, results, start, middle),
+                        new SimulationTask(runLevel, results, middle, end));
+                return;
+            }
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long thread = Thread.currentThread().getId();
+            for (int i = start; i < end; i++) {
+                long allocated = threads.getThreadAllocatedBytes(thread);
+                long time = System.nanoTime();
+                play(runLevel, results, i);
+                results.nanos[i] = System.nanoTime() - time;
+                results.bytes[i] = threads.getThreadAllocatedBytes(thread) - allocated;
+            }
+        }
+    }
+
+    @Override
+    public void create() {
+        if (replayFile != null) {
+            replay();
+            Gdx.app.exit();
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool();
+        System.out.printf("%d runs per level on %d threads, policy %s, at most %d steps per run, seed %d%n",
+                runs, pool.getParallelism(), policy, maxSteps, seed);
+        for (int number = 1; number <= LEVELS; number++) {
+            if (level != 0 && level != number) {
+                continue;
+            }
+            Level runLevel = Level.get(number);
+            // Lets the JIT compile the simulation before anything is measured.
+            pool.invoke(new SimulationTask(runLevel, newResults(warmup, seed ^ number), 0, warmup));
+            Results results = newResults(runs, seed + number);
+            pool.invoke(new SimulationTask(runLevel, results, 0, runs));
+            report(number, results);
+        }
+        pool.shutdown();
+        Gdx.app.exit();
+    }
+
+    /**
+     * Plays the recording again repeat times in this thread and prints the result and the cost per step.
+     * The first half of the replays let the JIT compile the simulation and are not measured.
+     */
+    void replay() {
+        RunRecording recording = RunRecording.load(Gdx.files.absolute(replayFile));
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        int warmupReplays = repeat / 2;
+        int score = -1;
+        int steps = 0;
+        long totalSteps = 0;
+        long totalNanos = 0;
+        long totalBytes = 0;
+        for (int i = 0; i < repeat; i++) {
+            long allocated = threads.getThreadAllocatedBytes(thread);
+            long time = System.nanoTime();
+            RunSimulation simulation = new RunSimulation(recording.getLevel(), recording.getSeed());
+            recording.rewind();
+            while (!simulation.isOver() && simulation.getSteps() < recording.getSteps()) {
+                int side = recording.next(simulation.getSteps());
+                if (side != RunRecording.NO_TOUCH) {
+                    simulation.touch(side);
+                }
+                simulation.step();
+            }
+            long nanos = System.nanoTime() - time;
+            long bytes = threads.getThreadAllocatedBytes(thread) - allocated;
+            if (score == -1) {
+                score = simulation.getPoints();
+                steps = simulation.getSteps();
+            } else if (score != simulation.getPoints() || steps != simulation.getSteps()) {
+                throw new IllegalStateException("Replay " + i + " differs from the first one");
+            }
+            if (i >= warmupReplays) {
+                totalSteps += simulation.getSteps();
+                totalNanos += nanos;
+                totalBytes += bytes;
+            }
+        }
+        if (steps != recording.getSteps()) {
+            System.out.printf("Warning: the replay ended after %d steps but the recorded run after %d%n", steps, recording.getSteps());
+        }
+        System.out.printf("Replay of %s: seed %d, score %d, %d steps, %d replays measured%n",
+                replayFile, recording.getSeed(), score, steps, repeat - warmupReplays);
+        System.out.printf("  cost    %.1f ns per step, %.2f bytes allocated per step%n",
+                (double) totalNanos / totalSteps, (double) totalBytes / totalSteps);
+    }
+
+    /**
+     * Creates the results of the given number of runs with seeds drawn from the given seed.
+     */
+    Results newResults(int count, long baseSeed) {
+        Results results = new Results(count);
+        RunRandom random = new RunRandom(baseSeed);
+        for (int i = 0; i < count; i++) {
+            results.seeds[i] = random.random(1, Integer.MAX_VALUE);
+        }
+        return results;
+    }
+
+    /**
+     * Plays one run with the chosen policy and saves its score and length.
+     */
+    void play(Level runLevel, Results results, int run) {
+        RunSimulation simulation = new RunSimulation(runLevel, results.seeds[run]);
+        RunAutopilot autopilot = new RunAutopilot();
+        // The random touches have their own generator so that they do not change the run's own choices.
+        RunRandom touches = new RunRandom(~results.seeds[run]);
+        while (!simulation.isOver() && simulation.getSteps() < maxSteps) {
+            int side = RunSimulation.TOUCH_NONE;
+            boolean touch = false;
+            if (policy.equals(AUTOPILOT)) {
+                side = autopilot.decide(simulation);
+                touch = side != RunSimulation.TOUCH_NONE;
+            } else if (policy.equals(RANDOM)) {
+                touch = touches.nextInt(RANDOM_TOUCH_STEPS) == 0;
+                side = touches.random(RunSimulation.TOUCH_LEFT, RunSimulation.TOUCH_RIGHT);
+            }
+            if (touch) {
+                simulation.touch(side);
+            }
+            simulation.step();
+        }
+        results.scores[run] = simulation.getPoints();
+        results.steps[run] = simulation.getSteps();
+    }
+
+    /**
+     * Prints the score distribution and the cost per step of the level.
+     */
+    void report(int number, Results results) {
+        int count = results.scores.length;
+        long totalSteps = 0;
+        long totalNanos = 0;
+        long totalBytes = 0;
+        long totalScore = 0;
+        int lowest = 0;
+        int highest = 0;
+        for (int i = 0; i < count; i++) {
+            totalSteps += results.steps[i];
+            totalNanos += results.nanos[i];
+            totalBytes += results.bytes[i];
+            totalScore += results.scores[i];
+            if (results.scores[i] < results.scores[lowest]) {
+                lowest = i;
+            }
+            if (results.scores[i] > results.scores[highest]) {
+                highest = i;
+            }
+        }
+        int[] scores = results.scores.clone();
+        Arrays.sort(scores);
+
+        System.out.printf("Level %d%n", number);
+        System.out.printf("  score   min %d (seed %d), p25 %d, median %d, p75 %d, max %d (seed %d), mean %.1f%n",
+                scores[0], results.seeds[lowest], percentile(scores, 25), percentile(scores, 50),
+                percentile(scores, 75), scores[count - 1], results.seeds[highest], (double) totalScore / count);
+        System.out.printf("  steps   mean %.1f per run%n", (double) totalSteps / count);
+        System.out.printf("  cost    %.1f ns per step, %.2f bytes allocated per step%n",
+                (double) totalNanos / totalSteps, (double) totalBytes / totalSteps);
+    }
+
+    /**
+     * Returns the given percentile of the sorted values.
+     */
+    static int percentile(int[] sorted, int percent) {
+        return sorted[(sorted.length - 1) * percent / 100];
+    }
+
+    public static void main(String[] arg) {
+        SimulationRunner runner = new SimulationRunner();
+        for (int i = 0; i < arg.length - 1; i += 2) {
+            String value = arg[i + 1];
+            if (arg[i].equals("--runs")) {
+                runner.runs = Integer.parseInt(value);
+            } else if (arg[i].equals("--level")) {
+                runner.level = Integer.parseInt(value);
+                if (runner.level < 1 || runner.level > LEVELS) {
+                    throw new IllegalArgumentException("Unknown level " + value);
+                }
+            } else if (arg[i].equals("--seed")) {
+                runner.seed = Long.parseLong(value);
+            } else if (arg[i].equals("--max-steps")) {
+                runner.maxSteps = Integer.parseInt(value);
+            } else if (arg[i].equals("--policy")) {
+                if (!value.equals(AUTOPILOT) && !value.equals(RANDOM) && !value.equals(NONE)) {
+                    throw new IllegalArgumentException("Unknown policy " + value);
+                }
+                runner.policy = value;
+            } else if (arg[i].equals("--warmup")) {
+                runner.warmup = Integer.parseInt(value);
+            } else if (arg[i].equals("--replay")) {
+                runner.replayFile = value;
+            } else if (arg[i].equals("--repeat")) {
+                runner.repeat = Integer.parseInt(value);
+            } else {
+                throw new IllegalArgumentException("Unknown option " + arg[i]);
+            }
+        }
+        new HeadlessApplication(runner);
+    }
+}